@@ -27,7 +27,9 @@ import com.google.gwt.resources.client.TextResource;
 import gwt.material.design.client.resources.MaterialResources;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class MaterialDesignBase {
 
@@ -42,20 +44,58 @@ public class MaterialDesignBase {
         }
     }
 
+    static class NamedResource extends FutureResource {
+        String[] dependencies;
+        boolean injected;
+
+        public NamedResource(TextResource resource, boolean removeTag, boolean sourceUrl, String... dependencies) {
+            super(resource, removeTag, sourceUrl);
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * Core materialize script, required by most widgets.
+     */
+    public static final String MATERIALIZE = "materialize";
+
+    /**
+     * Grid and dismissable collection animations.
+     */
+    public static final String ANIMATION = "animation";
+
+    /**
+     * Progressive web app installer.
+     */
+    public static final String APP_INSTALLER = "app-installer";
+
     static final JQueryProvider jQueryProvider = GWT.create(JQueryProvider.class);
     static List<FutureResource> futureResources;
+    static Map<String, NamedResource> namedResources;
     static boolean jqueryWarning;
 
     protected void load() {
         checkJQuery(false);
-        if(!isMaterializeLoaded()) {
-            injectJs(MaterialResources.INSTANCE.materializeJs());
-            injectJs(MaterialResources.INSTANCE.animationJs());
-            injectJs(MaterialResources.INSTANCE.appInstallerJs());
-        }
+        registerJs(MATERIALIZE, MaterialResources.INSTANCE.materializeJs());
+        registerJs(ANIMATION, MaterialResources.INSTANCE.animationJs(), MATERIALIZE);
+        registerJs(APP_INSTALLER, MaterialResources.INSTANCE.appInstallerJs());
+        loadMaterialize();
         onModuleLoaded();
     }
 
+    /**
+     * Inject the core materialize script only, the other scripts are injected by
+     * the widgets requiring them through {@link #requireJs(String)}.
+     */
+    protected void loadMaterialize() {
+        if (isMaterializeLoaded()) {
+            // Provided by the host page
+            namedResources.get(MATERIALIZE).injected = true;
+        } else {
+            requireJs(MATERIALIZE);
+        }
+    }
+
     protected void onModuleLoaded() {
         if (futureResources != null) {
             for (FutureResource res : futureResources) {
@@ -64,6 +104,52 @@ public class MaterialDesignBase {
         }
     }
 
+    /**
+     * Register a script that will be injected the first time it is required.
+     *
+     * @param name         Unique name of the script
+     * @param dependencies Names of the scripts that must be injected before this one
+     */
+    public static void registerJs(String name, TextResource resource, String... dependencies) {
+        registerJs(name, new NamedResource(resource, true, false, dependencies));
+    }
+
+    public static void registerDebugJs(String name, TextResource resource, String... dependencies) {
+        registerJs(name, new NamedResource(resource, false, true, dependencies));
+    }
+
+    protected static void registerJs(String name, NamedResource resource) {
+        if (namedResources == null) {
+            namedResources = new HashMap<>();
+        }
+        NamedResource registered = namedResources.get(name);
+        if (registered == null || !registered.injected) {
+            namedResources.put(name, resource);
+        }
+    }
+
+    /**
+     * Inject the registered script and its dependencies, unless already injected.
+     */
+    public static void requireJs(String name) {
+        NamedResource resource = namedResources != null ? namedResources.get(name) : null;
+        if (resource == null) {
+            GWT.log("Warning: No script registered with the name '" + name + "'.");
+        } else if (!resource.injected) {
+            // Mark first, guarding against dependency cycles
+            resource.injected = true;
+            for (String dependency : resource.dependencies) {
+                requireJs(dependency);
+            }
+            injectJs(resource.resource, resource.removeTag, resource.sourceUrl);
+        }
+    }
+
+    public static boolean isJsInjected(String name) {
+        NamedResource resource = namedResources != null ? namedResources.get(name) : null;
+        return resource != null && resource.injected;
+    }
+
     public static void injectJs(TextResource resource) {
         injectJs(resource, true, false);
     }
@@ -27,11 +27,10 @@ public class MaterialDesignDebugBase extends MaterialDesignBase {
     @Override
     public void load() {
         checkJQuery(true);
-        if(!isMaterializeLoaded()) {
-            injectDebugJs(MaterialDebugResources.INSTANCE.materializeJsDebug());
-            injectDebugJs(MaterialDebugResources.INSTANCE.animationJsDebug());
-            injectDebugJs(MaterialDebugResources.INSTANCE.appInstallerJsDebug());
-        }
+        registerDebugJs(MATERIALIZE, MaterialDebugResources.INSTANCE.materializeJsDebug());
+        registerDebugJs(ANIMATION, MaterialDebugResources.INSTANCE.animationJsDebug(), MATERIALIZE);
+        registerDebugJs(APP_INSTALLER, MaterialDebugResources.INSTANCE.appInstallerJsDebug());
+        loadMaterialize();
         onModuleLoaded();
     }
 }
@@ -55,8 +55,8 @@ public class DefaultListValueBoxLoader<T> implements AsyncDisplayLoader<List<T>>
 
     @Override
     public void success(List<T> result) {
-        result.forEach(object -> listValueBox.addItem(object, listValueBox.getAsyncRenderer() != null ? listValueBox.getAsyncRenderer().render(object) : object.toString(), false));
-        listValueBox.reload();
+        AsyncRenderer<String, T> renderer = listValueBox.getAsyncRenderer();
+        listValueBox.addItems(result, renderer != null ? renderer : Object::toString);
         $(listValueBox.getElement()).find("input").focus();
         listValueBox.setLoaded(true);
     }
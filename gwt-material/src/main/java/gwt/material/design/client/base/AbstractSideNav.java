@@ -78,6 +78,9 @@ public abstract class AbstractSideNav extends MaterialWidget
 
     public AbstractSideNav() {
         super(Document.get().createULElement(), CssName.SIDE_NAV);
+
+        // Registers with the DisplayDensityManager once attached
+        getDensityMixin();
     }
 
     public AbstractSideNav(final Widget... widgets) {
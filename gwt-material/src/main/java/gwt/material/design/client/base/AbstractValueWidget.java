@@ -32,6 +32,7 @@ import gwt.material.design.client.base.error.ErrorHandler;
 import gwt.material.design.client.base.error.ErrorHandlerType;
 import gwt.material.design.client.base.error.HasErrorHandler;
 import gwt.material.design.client.base.mixin.*;
+import gwt.material.design.client.base.validator.AsyncValidator;
 import gwt.material.design.client.base.validator.BlankValidator;
 import gwt.material.design.client.base.validator.HasValidators;
 import gwt.material.design.client.base.validator.ValidationChangedEvent;
@@ -219,6 +220,42 @@ public abstract class AbstractValueWidget<V> extends MaterialWidget implements H
         return getValidatorMixin().validate(show);
     }
 
+    /**
+     * @return the errors of the last validation.
+     */
+    public List<EditorError> getValidationErrors() {
+        return getValidatorMixin().getErrors();
+    }
+
+    /**
+     * Add an {@link AsyncValidator}, run with a debounce once the other validators passed.
+     */
+    public void addAsyncValidator(AsyncValidator<V> validator) {
+        getValidatorMixin().addAsyncValidator(validator);
+    }
+
+    public boolean removeAsyncValidator(AsyncValidator<V> validator) {
+        return getValidatorMixin().removeAsyncValidator(validator);
+    }
+
+    /**
+     * Set the debounce delay of the async validators in milliseconds.
+     */
+    public void setAsyncValidationDelay(int delay) {
+        getValidatorMixin().getAsyncScheduler().setDelay(delay);
+    }
+
+    public int getAsyncValidationDelay() {
+        return getValidatorMixin().getAsyncScheduler().getDelay();
+    }
+
+    /**
+     * @return true while the async validators of the latest value are running.
+     */
+    public boolean isValidating() {
+        return getValidatorMixin().isValidating();
+    }
+
     @Override
     public void setRequired(boolean required) {
         getRequiredFieldMixin().setRequired(required);
@@ -24,4 +24,17 @@ import gwt.material.design.client.ui.MaterialLink;
 public interface DropdownItemRenderer<T> {
 
     MaterialLink render(T object);
+
+    /**
+     * Update a recycled row link to display another object, used when the dropdown
+     * is in virtual scroll mode. By default a new link is rendered, override this
+     * to update the given link in place.
+     *
+     * @param link   the link currently displayed by the row, can be <code>null</code>.
+     * @param object the object the row will represent.
+     * @return the link to be displayed by the row.
+     */
+    default MaterialLink update(MaterialLink link, T object) {
+        return render(object);
+    }
 }
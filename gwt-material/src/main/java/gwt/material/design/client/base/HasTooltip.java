@@ -76,7 +76,7 @@ public interface HasTooltip {
     String getTooltipHTML();
 
     /**
-     * Get the Tooltip element to ease of customization
+     * Get the Tooltip element to ease of customization, not available with the shared tooltip overlay
      */
     JQueryElement getTooltipElement();
 }
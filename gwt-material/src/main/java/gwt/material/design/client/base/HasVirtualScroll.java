@@ -0,0 +1,45 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base;
+
+public interface HasVirtualScroll {
+
+    /**
+     * Render only the visible window of rows plus an overscan buffer, row elements
+     * are recycled while the user scrolls. Default: false
+     */
+    void setVirtualScroll(boolean virtualScroll);
+
+    boolean isVirtualScroll();
+
+    /**
+     * Fixed height in pixels of every row, used to compute the visible window.
+     */
+    void setRowHeight(int rowHeight);
+
+    int getRowHeight();
+
+    /**
+     * Number of extra rows to render above and below the visible window.
+     */
+    void setOverscan(int overscan);
+
+    int getOverscan();
+}
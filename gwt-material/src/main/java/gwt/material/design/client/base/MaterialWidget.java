@@ -29,7 +29,9 @@ import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.*;
 import gwt.material.design.client.base.helper.StyleHelper;
 import gwt.material.design.client.base.mixin.*;
-import gwt.material.design.client.base.validator.HasValidators;
+import gwt.material.design.client.base.validator.TreeValidator;
+import gwt.material.design.client.base.validator.ValidationOptions;
+import gwt.material.design.client.base.validator.ValidationResult;
 import gwt.material.design.client.constants.*;
 import gwt.material.design.client.events.DragEndEvent;
 import gwt.material.design.client.events.DragEnterEvent;
@@ -1091,16 +1093,23 @@ public class MaterialWidget extends ComplexPanel implements HasId, HasEnabled, H
         }
     }
 
+    /**
+     * Validate all the fields of this widget tree.
+     *
+     * @return true, if all the fields are valid
+     */
     public boolean validate() {
-        boolean valid = true;
-        for (Widget child : getChildren()) {
-            if (child instanceof HasValidators && !((HasValidators) child).validate()) {
-                valid = false;
-            } else if (child instanceof MaterialWidget && !((MaterialWidget) child).validate()) {
-                valid = false;
-            }
-        }
-        return valid;
+        return validate(ValidationOptions.defaults()).isValid();
+    }
+
+    /**
+     * Validate the fields of this widget tree in a single pass.
+     *
+     * @param options fail fast, max errors and visible only options of the traversal
+     * @return the invalid fields with their errors, in tree order
+     */
+    public ValidationResult validate(ValidationOptions options) {
+        return TreeValidator.validate(this, options);
     }
 
     // Events
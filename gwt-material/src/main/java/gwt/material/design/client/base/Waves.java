@@ -19,6 +19,8 @@
  */
 package gwt.material.design.client.base;
 
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.InputElement;
 import com.google.gwt.user.client.ui.IsWidget;
 import com.google.gwt.user.client.ui.Widget;
 import gwt.material.design.client.js.JsMaterialElement;
@@ -27,11 +29,15 @@ public class Waves {
 
     public static final String WAVES_STYLE = "waves-effect";
 
+    private static boolean scoped = true;
+    private static boolean delegated;
+
     /**
      * Initialize any uninitialized wave elements.
      */
     public static void detectAndApply() {
         JsMaterialElement.displayEffect();
+        delegated = true;
     }
 
     /**
@@ -43,15 +49,68 @@ public class Waves {
         if (!widget.isAttached()) {
             widget.addAttachHandler(event -> {
                 if (event.isAttached()) {
-                    detectAndApply();
+                    apply(widget);
                 }
             });
         } else {
-            detectAndApply();
+            apply(widget);
         }
     }
 
     public static void detectAndApply(IsWidget isWidget) {
         detectAndApply(isWidget.asWidget());
     }
+
+    protected static void apply(Widget widget) {
+        if (scoped) {
+            detectAndApply(widget.getElement());
+        } else {
+            detectAndApply();
+        }
+    }
+
+    /**
+     * Apply waves to the given element only. The ripples are handled by the single delegated
+     * listener of the document, installed on first use, so only input elements need to be
+     * wrapped.
+     */
+    public static void detectAndApply(Element element) {
+        if (!delegated) {
+            detectAndApply();
+        } else if (InputElement.is(element) && element.hasClassName(WAVES_STYLE)) {
+            wrapInput(element);
+        }
+    }
+
+    /**
+     * When scoped (the default) attaching a waves widget only applies waves to its own element,
+     * otherwise the whole document is scanned for uninitialized wave elements.
+     */
+    public static void setScoped(boolean scoped) {
+        Waves.scoped = scoped;
+    }
+
+    public static boolean isScoped() {
+        return scoped;
+    }
+
+    /**
+     * Input elements do not render the ripple, wrap them the way waves does.
+     */
+    protected static native void wrapInput(Element element) /*-{
+        var parent = element.parentNode;
+        if (!parent || (parent.tagName.toLowerCase() === 'i' && parent.className.indexOf('waves-effect') !== -1)) {
+            return;
+        }
+
+        var wrapper = $doc.createElement('i');
+        wrapper.className = element.className + ' waves-input-wrapper';
+        wrapper.setAttribute('style', element.getAttribute('style') || '');
+
+        element.className = 'waves-button-input';
+        element.removeAttribute('style');
+
+        parent.replaceChild(wrapper, element);
+        wrapper.appendChild(element);
+    }-*/;
 }
@@ -0,0 +1,99 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.density;
+
+import com.google.gwt.event.shared.HandlerManager;
+import com.google.gwt.event.shared.HandlerRegistration;
+import gwt.material.design.client.base.mixin.DensityMixin;
+import gwt.material.design.client.events.DensityChangeEvent;
+import gwt.material.design.client.events.DensityChangeEvent.DensityChangeHandler;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Switches the display density of the application without reloading the page. Every attached
+ * widget using a {@link DensityMixin} is registered here and receives the new density when
+ * {@link #setDensity(Density)} is called, unless the widget was given its own density.
+ * Widgets attached afterwards pick up the current density.
+ *
+ * @see DisplayDensityStorage
+ */
+public class DisplayDensityManager {
+
+    private static final Set<DensityMixin<?>> widgets = new LinkedHashSet<>();
+    private static HandlerManager handlerManager;
+    private static Density density;
+    private static int version;
+
+    /**
+     * Apply the density to all registered widgets without their own density and
+     * fire a {@link DensityChangeEvent}.
+     */
+    public static void setDensity(Density density) {
+        DisplayDensityManager.density = density;
+        version++;
+
+        // Swap the density styles of all widgets in one pass
+        for (DensityMixin<?> widget : new ArrayList<>(widgets)) {
+            widget.setApplicationDensity(density);
+        }
+
+        if (handlerManager != null) {
+            DensityChangeEvent.fire(handlerManager, density);
+        }
+    }
+
+    /**
+     * Get the density applied through {@link #setDensity(Density)}, or the stored density
+     * when it was not switched yet.
+     */
+    public static Density getDensity() {
+        return density != null ? density : DisplayDensityStorage.get();
+    }
+
+    /**
+     * Incremented every time the density is switched, allowing widgets to detect
+     * whether the application density was switched at all.
+     */
+    public static int getVersion() {
+        return version;
+    }
+
+    public static void register(DensityMixin<?> widget) {
+        widgets.add(widget);
+    }
+
+    public static void unregister(DensityMixin<?> widget) {
+        widgets.remove(widget);
+    }
+
+    public static boolean isRegistered(DensityMixin<?> widget) {
+        return widgets.contains(widget);
+    }
+
+    public static HandlerRegistration addDensityChangeHandler(DensityChangeHandler handler) {
+        if (handlerManager == null) {
+            handlerManager = new HandlerManager(DisplayDensityManager.class);
+        }
+        return handlerManager.addHandler(DensityChangeEvent.TYPE, handler);
+    }
+}
@@ -21,20 +21,22 @@ package gwt.material.design.client.base.density;
 
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.storage.client.Storage;
-import com.google.gwt.user.client.Window;
 
 public class DisplayDensityStorage {
 
     public static final String STORAGE_ID = "app_density";
     private static Storage storage = Storage.getLocalStorageIfSupported();
 
+    /**
+     * Persist the density and apply it to all attached widgets through the {@link DisplayDensityManager}.
+     */
     public static void apply(DisplayDensity density) {
         if (Storage.isLocalStorageSupported()) {
             storage.setItem(STORAGE_ID, density.getCssName());
-            Window.Location.reload();
         } else {
             GWT.log("localStorage API is not supported by your browser.");
         }
+        DisplayDensityManager.setDensity(density);
     }
 
     public static DisplayDensity get() {
@@ -19,14 +19,18 @@
  */
 package gwt.material.design.client.base.error;
 
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.editor.client.EditorError;
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.HasWidgets;
 import com.google.gwt.user.client.ui.Widget;
 import gwt.material.design.client.base.HasErrorText;
 import gwt.material.design.client.base.HasStatusText;
 import gwt.material.design.client.ui.MaterialHelpBlock;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This is the default {@link ErrorHandler} implementation.
@@ -41,12 +45,23 @@ import java.util.List;
  *     <m:MaterialHelpBlock iconType="EXCLAMATION" />
  * </m:MaterialRow>
  * }</pre>
+ * <p>
+ * Containers can also hand out their help block with {@link #registerHelpBlock(Widget, MaterialHelpBlock)},
+ * their fields then use it without searching the widget tree.
  *
  * @author Steven Jardine
  * @author Ben Dol
  */
 public class DefaultErrorHandler implements ErrorHandler {
 
+    // Element property holding the registered help block, kept on the container so it
+    // is released together with it.
+    private static final String HELP_BLOCK_PROPERTY = "__gwtMaterialHelpBlock";
+
+    // Help blocks resolved per container, only kept until the end of the current event loop
+    // so that fields attached together share the lookups.
+    private static Map<Widget, MaterialHelpBlock> resolvedHelpBlocks;
+
     private boolean initialized = false;
 
     private final Widget inputWidget;
@@ -86,30 +101,79 @@ public class DefaultErrorHandler implements ErrorHandler {
     }
 
     /**
-     * Find the sibling {@link MaterialHelpBlock}.
+     * Register the help block of a container, the fields within that container will use it
+     * without searching the widget tree.
+     *
+     * @param container the container of the fields.
+     * @param helpBlock the {@link MaterialHelpBlock} of the container.
+     * @return the registration used to remove the help block of the container.
+     */
+    public static HandlerRegistration registerHelpBlock(Widget container, MaterialHelpBlock helpBlock) {
+        assert container != null && helpBlock != null;
+        container.getElement().setPropertyObject(HELP_BLOCK_PROPERTY, helpBlock);
+        return () -> {
+            if (getRegisteredHelpBlock(container) == helpBlock) {
+                container.getElement().setPropertyObject(HELP_BLOCK_PROPERTY, null);
+            }
+        };
+    }
+
+    /**
+     * Get the help block registered on the container with {@link #registerHelpBlock(Widget, MaterialHelpBlock)}.
+     *
+     * @return the registered {@link MaterialHelpBlock} or null if none.
+     */
+    public static MaterialHelpBlock getRegisteredHelpBlock(Widget container) {
+        Object helpBlock = container.getElement().getPropertyObject(HELP_BLOCK_PROPERTY);
+        return helpBlock instanceof MaterialHelpBlock ? (MaterialHelpBlock) helpBlock : null;
+    }
+
+    /**
+     * Find the sibling {@link MaterialHelpBlock}, walking up once from the given widget.
      *
      * @param widget the {@link Widget} to search.
      * @return the found {@link MaterialHelpBlock} of null if not found.
      */
     protected MaterialHelpBlock findHelpBlock(Widget widget) {
-        if (widget != null) {
-            if (widget instanceof MaterialHelpBlock) {
-                return (MaterialHelpBlock) widget;
+        for (Widget current = widget; current != null; current = current.getParent()) {
+            if (current instanceof MaterialHelpBlock) {
+                return (MaterialHelpBlock) current;
             }
-            // Try and find the MaterialHelpBlock in the children of the given widget.
-            if (widget instanceof HasWidgets) {
-                for (Widget w : (HasWidgets) widget) {
-                    if (w instanceof MaterialHelpBlock) {
-                        return (MaterialHelpBlock) w;
-                    }
-                }
+            MaterialHelpBlock found = getContainerHelpBlock(current);
+            if (found != null) {
+                return found;
             }
-            // Try and find the MaterialHelpBlock in the parent of widget.
-            return findHelpBlock(widget.getParent());
         }
         return null;
     }
 
+    /**
+     * Get the registered help block of the container, or the first {@link MaterialHelpBlock}
+     * of its children.
+     */
+    protected MaterialHelpBlock getContainerHelpBlock(Widget container) {
+        MaterialHelpBlock helpBlock = getRegisteredHelpBlock(container);
+        if (helpBlock != null || !(container instanceof HasWidgets)) {
+            return helpBlock;
+        }
+
+        if (resolvedHelpBlocks == null) {
+            resolvedHelpBlocks = new HashMap<>();
+            Scheduler.get().scheduleFinally(() -> resolvedHelpBlocks = null);
+        } else if (resolvedHelpBlocks.containsKey(container)) {
+            return resolvedHelpBlocks.get(container);
+        }
+
+        for (Widget w : (HasWidgets) container) {
+            if (w instanceof MaterialHelpBlock) {
+                helpBlock = (MaterialHelpBlock) w;
+                break;
+            }
+        }
+        resolvedHelpBlocks.put(container, helpBlock);
+        return helpBlock;
+    }
+
     /**
      * Initialize the instance.
      */
@@ -117,15 +181,7 @@ public class DefaultErrorHandler implements ErrorHandler {
         if (initialized) {
             return;
         }
-        Widget parent = inputWidget.getParent();
-        while (parent != null && !parent.getClass().getName().equals("com.google.gwt.user.client.ui.Widget")) {
-            helpBlock = findHelpBlock(inputWidget);
-            if (helpBlock != null) {
-                break;
-            } else {
-                parent = parent.getParent();
-            }
-        }
+        helpBlock = findHelpBlock(inputWidget);
         initialized = true;
     }
 
@@ -22,11 +22,16 @@ package gwt.material.design.client.base.helper;
 
 import com.google.gwt.dom.client.Style;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Sven Jacobs
  */
 public final class EnumHelper {
 
+    private static final Map<Class<?>, Map<String, Enum<?>>> CSS_NAME_LOOKUPS = new HashMap<>();
+
     /**
      * Returns first enum constant found in at space-separated list of style names.
      *
@@ -58,23 +63,49 @@ public final class EnumHelper {
             return defaultValue;
         }
 
-        for (final Enum<? extends Style.HasCssName> constant : enumClass.getEnumConstants()) {
-            final Style.HasCssName anEnum = (Style.HasCssName) constant;
-            final String cssClass = anEnum.getCssName();
-
-            if(cssClass != null) {
-                boolean contains;
-                if (ignoreSpaces) {
-                    contains = styleName.equals(cssClass);
-                } else {
-                    contains = StyleHelper.containsStyle(styleName, cssClass);
+        final Map<String, Enum<?>> constants = getCssNameLookup(enumClass);
+        Enum<?> match;
+        if (ignoreSpaces || !containsWhitespace(styleName)) {
+            match = constants.get(styleName);
+        } else {
+            // Keep the first constant in declaration order when several styles match
+            match = null;
+            for (final String style : styleName.split("\\s")) {
+                final Enum<?> constant = constants.get(style);
+                if (constant != null && (match == null || constant.ordinal() < match.ordinal())) {
+                    match = constant;
                 }
-                if (contains) {
-                    return (E) anEnum;
+            }
+        }
+        return match != null ? (E) match : defaultValue;
+    }
+
+    /**
+     * Returns the lookup of the constants of an enum by their css name, built once per enum type.
+     * When several constants share the same css name, the first declared constant is kept.
+     */
+    private static Map<String, Enum<?>> getCssNameLookup(final Class<? extends Enum<?>> enumClass) {
+        Map<String, Enum<?>> constants = CSS_NAME_LOOKUPS.get(enumClass);
+        if (constants == null) {
+            constants = new HashMap<>();
+            for (final Enum<?> constant : enumClass.getEnumConstants()) {
+                final String cssClass = ((Style.HasCssName) constant).getCssName();
+                if (cssClass != null && !constants.containsKey(cssClass)) {
+                    constants.put(cssClass, constant);
                 }
             }
+            CSS_NAME_LOOKUPS.put(enumClass, constants);
+        }
+        return constants;
+    }
+
+    private static boolean containsWhitespace(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isWhitespace(value.charAt(i))) {
+                return true;
+            }
         }
-        return defaultValue;
+        return false;
     }
 
     private EnumHelper() {
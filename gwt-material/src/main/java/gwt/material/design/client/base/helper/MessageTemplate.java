@@ -0,0 +1,190 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message template with <code>{n}</code> and <code>{name}</code> placeholders. The pattern is parsed
+ * once into literal and placeholder segments, compiled templates are cached by pattern.
+ * <p>
+ * <pre>
+ * {@code
+ * MessageTemplate.compile("{1} is a {2}").format("This", "test.");
+ * MessageTemplate.compile("Page {page} of {total}").format(name -> "page".equals(name) ? 1 : 10);
+ * }
+ * </pre>
+ */
+public final class MessageTemplate {
+
+    /**
+     * Resolves the value of a named placeholder, returning null keeps the placeholder as is.
+     */
+    public interface Resolver {
+        Object resolve(String name);
+    }
+
+    public static final int MAX_CACHE_SIZE = 256;
+
+    private static final Map<String, MessageTemplate> CACHE = new HashMap<>();
+
+    private final String pattern;
+
+    // literals has one more entry than names, a placeholder sits between two literals
+    private final String[] literals;
+    private final String[] names;
+    private final int[] indexes;
+
+    private MessageTemplate(String pattern, List<String> literals, List<String> names) {
+        this.pattern = pattern;
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.names = names.toArray(new String[names.size()]);
+
+        indexes = new int[this.names.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = parseIndex(this.names[i]);
+        }
+    }
+
+    /**
+     * Get the compiled template of the pattern, compiling it on first use.
+     */
+    public static MessageTemplate compile(String pattern) {
+        MessageTemplate template = CACHE.get(pattern);
+        if (template == null) {
+            template = parse(pattern);
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(pattern, template);
+        }
+        return template;
+    }
+
+    private static MessageTemplate parse(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < pattern.length()) {
+            int start = pattern.indexOf('{', position);
+            int end = start < 0 ? -1 : pattern.indexOf('}', start + 1);
+            if (end < 0) {
+                break;
+            }
+
+            String name = pattern.substring(start + 1, end);
+            if (name.isEmpty() || name.indexOf('{') >= 0) {
+                // Not a placeholder, keep the brace as a literal
+                literal.append(pattern, position, start + 1);
+                position = start + 1;
+                continue;
+            }
+
+            literal.append(pattern, position, start);
+            literals.add(literal.toString());
+            names.add(name);
+            literal.setLength(0);
+            position = end + 1;
+        }
+        literal.append(pattern, position, pattern.length());
+        literals.add(literal.toString());
+
+        return new MessageTemplate(pattern, literals, names);
+    }
+
+    private static int parseIndex(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return -1;
+            }
+        }
+        return name.length() > 9 ? -1 : Integer.parseInt(name);
+    }
+
+    /**
+     * Format the template replacing the <code>{n}</code> placeholders with the arguments, <code>{1}</code>
+     * being the first one. Other placeholders are kept as is.
+     */
+    public String format(Object... arguments) {
+        if (names.length == 0) {
+            return pattern;
+        }
+
+        StringBuilder builder = new StringBuilder(pattern.length() + 16);
+        for (int i = 0; i < names.length; i++) {
+            builder.append(literals[i]);
+            int index = indexes[i];
+            if (arguments != null && index > 0 && index <= arguments.length) {
+                builder.append(arguments[index - 1]);
+            } else {
+                appendPlaceholder(builder, names[i]);
+            }
+        }
+        return builder.append(literals[names.length]).toString();
+    }
+
+    /**
+     * Format the template replacing every placeholder with the value of the resolver.
+     */
+    public String format(Resolver resolver) {
+        if (names.length == 0) {
+            return pattern;
+        }
+
+        StringBuilder builder = new StringBuilder(pattern.length() + 16);
+        for (int i = 0; i < names.length; i++) {
+            builder.append(literals[i]);
+            Object value = resolver.resolve(names[i]);
+            if (value != null) {
+                builder.append(value);
+            } else {
+                appendPlaceholder(builder, names[i]);
+            }
+        }
+        return builder.append(literals[names.length]).toString();
+    }
+
+    private static void appendPlaceholder(StringBuilder builder, String name) {
+        builder.append('{').append(name).append('}');
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return the number of placeholders of the template.
+     */
+    public int getPlaceholderCount() {
+        return names.length;
+    }
+
+    /**
+     * Clear the compiled templates cache.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.helper;
+
+import com.google.gwt.regexp.shared.RegExp;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of compiled {@link RegExp}s shared across the application, the least recently
+ * used expressions are evicted first.
+ * <p>
+ * The cached expressions are shared, global ones have their last index reset when handed out.
+ */
+public final class RegExpCache {
+
+    public static final int DEFAULT_MAX_SIZE = 128;
+
+    private static int maxSize = DEFAULT_MAX_SIZE;
+    private static int hitCount;
+    private static int missCount;
+
+    private static final Map<String, RegExp> CACHE = new LinkedHashMap<String, RegExp>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RegExp> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private RegExpCache() {
+    }
+
+    /**
+     * Get the compiled regular expression of the pattern, compiling it on first use.
+     */
+    public static RegExp compile(String pattern) {
+        return compile(pattern, "");
+    }
+
+    /**
+     * Get the compiled regular expression of the pattern with the given flags, compiling it on first use.
+     */
+    public static RegExp compile(String pattern, String flags) {
+        String key = flags + "/" + pattern;
+        RegExp regExp = CACHE.get(key);
+        if (regExp == null) {
+            missCount++;
+            regExp = RegExp.compile(pattern, flags);
+            CACHE.put(key, regExp);
+        } else {
+            hitCount++;
+            if (regExp.getGlobal()) {
+                regExp.setLastIndex(0);
+            }
+        }
+        return regExp;
+    }
+
+    /**
+     * Replace all the matches of the pattern, like {@link String#replaceAll(String, String)} using a
+     * cached expression.
+     */
+    public static String replaceAll(String input, String pattern, String replacement) {
+        return compile(pattern, "g").replace(input, replacement);
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Set the maximum number of cached expressions, evicting the least recently used ones.
+     */
+    public static void setMaxSize(int maxSize) {
+        RegExpCache.maxSize = Math.max(1, maxSize);
+        while (CACHE.size() > RegExpCache.maxSize) {
+            CACHE.remove(CACHE.keySet().iterator().next());
+        }
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static int getHitCount() {
+        return hitCount;
+    }
+
+    public static int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Reset the hit and miss counters.
+     */
+    public static void resetStats() {
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    /**
+     * Clear the cached expressions and the counters.
+     */
+    public static void clear() {
+        CACHE.clear();
+        resetStats();
+    }
+}
@@ -142,7 +142,7 @@ public final class StyleHelper {
             return null;
         }
         try {
-            return Double.parseDouble(value.replaceAll("[^0-9.]", ""));
+            return Double.parseDouble(RegExpCache.replaceAll(value, "[^0-9.]", ""));
         } catch (NumberFormatException ex) {
             return null;
         }
@@ -154,7 +154,7 @@ public final class StyleHelper {
         }
         try {
             return Style.Unit.valueOf(
-                    value.replaceAll("[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?", "").toUpperCase());
+                    RegExpCache.replaceAll(value, "[-+]?[0-9]*\\.?[0-9]+([eE][-+]?[0-9]+)?", "").toUpperCase());
         } catch (IllegalArgumentException e) {
             // Silently catch invalid units
             return null;
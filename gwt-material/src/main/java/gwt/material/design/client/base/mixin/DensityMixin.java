@@ -23,25 +23,67 @@ import com.google.gwt.user.client.ui.Widget;
 import gwt.material.design.client.base.HasDensity;
 import gwt.material.design.client.base.density.Density;
 import gwt.material.design.client.base.density.DisplayDensity;
-import gwt.material.design.client.base.helper.EventHelper;
+import gwt.material.design.client.base.density.DisplayDensityManager;
+
+import java.util.Objects;
 
 public class DensityMixin<T extends Widget> extends AbstractMixin<T> implements HasDensity {
 
     private CssNameMixin<Widget, Density> styleMixin;
     private Density density = DisplayDensity.DEFAULT;
+    private boolean explicitDensity;
 
     public DensityMixin(T uiObject) {
         super(uiObject);
+
+        uiObject.addAttachHandler(event -> {
+            if (event.isAttached()) {
+                register();
+            } else {
+                DisplayDensityManager.unregister(this);
+            }
+        });
+
+        if (uiObject.isAttached()) {
+            register();
+        }
     }
 
+    protected void register() {
+        DisplayDensityManager.register(this);
+
+        // Follow the application density unless the widget was given its own density
+        if (!explicitDensity) {
+            applyDensity(DisplayDensityManager.getDensity());
+        } else {
+            getStyleMixin().setCssName(density);
+        }
+    }
+
+    /**
+     * Set the density of the widget, which is kept when the application density is switched.
+     * Setting the application density keeps following its switches.
+     */
     @Override
     public void setDensity(Density density) {
+        explicitDensity = !Objects.equals(density, DisplayDensityManager.getDensity());
+        applyDensity(density);
+    }
+
+    /**
+     * Apply the application density, ignored when the widget was given its own density.
+     */
+    public void setApplicationDensity(Density density) {
+        if (!explicitDensity) {
+            applyDensity(density);
+        }
+    }
+
+    protected void applyDensity(Density density) {
         this.density = density;
 
         if (uiObject.isAttached()) {
             getStyleMixin().setCssName(density);
-        } else {
-            EventHelper.onAttachOnce(uiObject, attachEvent -> getStyleMixin().setCssName(density));
         }
     }
 
@@ -50,6 +92,13 @@ public class DensityMixin<T extends Widget> extends AbstractMixin<T> implements
         return density;
     }
 
+    /**
+     * Check whether the widget was given its own density with {@link #setDensity(Density)}.
+     */
+    public boolean isExplicitDensity() {
+        return explicitDensity;
+    }
+
     public CssNameMixin<Widget, Density> getStyleMixin() {
         if (styleMixin == null) {
             styleMixin = new CssNameMixin<>(uiObject);
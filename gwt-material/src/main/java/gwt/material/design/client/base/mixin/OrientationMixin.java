@@ -22,16 +22,17 @@ package gwt.material.design.client.base.mixin;
 import com.google.gwt.event.shared.HandlerRegistration;
 import gwt.material.design.client.base.HasOrientation;
 import gwt.material.design.client.base.MaterialWidget;
+import gwt.material.design.client.base.viewport.ViewPortService;
 import gwt.material.design.client.constants.Orientation;
 import gwt.material.design.client.events.OrientationChangeEvent;
-import gwt.material.design.client.js.Window;
-import gwt.material.design.client.ui.MaterialToast;
 
 /**
  *  @author kevzlou7979
  */
 public class OrientationMixin<T extends MaterialWidget & HasOrientation> extends AbstractMixin<T>  implements HasOrientation {
 
+    private static final String PORTRAIT_QUERY = "(orientation: portrait)";
+
     private boolean detectOrientation = false;
     private HandlerRegistration orientationHandler;
     private Orientation orientation;
@@ -65,13 +66,13 @@ public class OrientationMixin<T extends MaterialWidget & HasOrientation> extends
         }
 
         if(detectOrientation) {
-            orientationHandler = Window.addResizeHandler(resizeEvent -> detectAndApplyOrientation());
+            orientationHandler = ViewPortService.subscribe((width, height) -> detectAndApplyOrientation(), PORTRAIT_QUERY);
             detectAndApplyOrientation();
         }
     }
 
     protected void detectAndApplyOrientation() {
-        if (Window.matchMedia("(orientation: portrait)")) {
+        if (ViewPortService.matches(PORTRAIT_QUERY)) {
             setOrientation(Orientation.PORTRAIT);
         } else {
             setOrientation(Orientation.LANDSCAPE);
@@ -81,12 +81,7 @@ public class TooltipMixin<H extends Widget & HasTooltip> extends AbstractMixin<H
     }
 
     public void addTooltipClass(String... classes) {
-        JQueryElement tooltipElement = this.tooltip.getTooltipElement();
-        if (tooltipElement != null) {
-            for (String tooltipClass : classes) {
-                tooltipElement.addClass(tooltipClass);
-            }
-        }
+        tooltip.addTooltipClass(classes);
     }
 
     @Override
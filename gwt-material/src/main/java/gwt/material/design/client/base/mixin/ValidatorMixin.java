@@ -30,6 +30,8 @@ import com.google.gwt.event.shared.SimpleEventBus;
 import com.google.gwt.user.client.ui.HasValue;
 import com.google.gwt.user.client.ui.Widget;
 import gwt.material.design.client.base.error.ErrorHandler;
+import gwt.material.design.client.base.validator.AsyncValidationScheduler;
+import gwt.material.design.client.base.validator.AsyncValidator;
 import gwt.material.design.client.base.validator.HasValidators;
 import gwt.material.design.client.base.validator.ValidationChangedEvent;
 import gwt.material.design.client.base.validator.ValidationChangedEvent.ValidationChangedHandler;
@@ -37,6 +39,7 @@ import gwt.material.design.client.base.validator.Validator;
 import gwt.material.design.client.base.validator.ValidatorWrapper;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -60,8 +63,12 @@ public class ValidatorMixin<W extends Widget & HasValue<V> & Editor<V>, V> imple
 
     private boolean validateOnBlur;
 
+    private List<EditorError> errors = Collections.emptyList();
+
     protected Set<ValidatorWrapper<V>> validators = new TreeSet<>();
 
+    protected AsyncValidationScheduler<V> asyncScheduler;
+
     /**
      * Instantiates a new abstract validator mixin.
      *
@@ -92,6 +99,54 @@ public class ValidatorMixin<W extends Widget & HasValue<V> & Editor<V>, V> imple
         validators.add(new ValidatorWrapper<>(validator, validators.size()));
     }
 
+    /**
+     * Add an {@link AsyncValidator}, run once the synchronous validators passed.
+     */
+    public void addAsyncValidator(AsyncValidator<V> validator) {
+        getAsyncScheduler().addValidator(validator);
+    }
+
+    public boolean removeAsyncValidator(AsyncValidator<V> validator) {
+        return asyncScheduler != null && asyncScheduler.removeValidator(validator);
+    }
+
+    /**
+     * @return true while the async validators of the latest value are running.
+     */
+    public boolean isValidating() {
+        return asyncScheduler != null && asyncScheduler.isPending();
+    }
+
+    public AsyncValidationScheduler<V> getAsyncScheduler() {
+        if (asyncScheduler == null) {
+            asyncScheduler = new AsyncValidationScheduler<>(inputWidget, this::onAsyncValidated);
+        }
+        return asyncScheduler;
+    }
+
+    protected boolean hasAsyncValidators() {
+        return asyncScheduler != null && asyncScheduler.hasValidators();
+    }
+
+    /**
+     * Apply the result of the async validators, only called for the latest value.
+     */
+    protected void onAsyncValidated(V value, List<EditorError> asyncErrors, boolean show) {
+        Boolean oldValid = valid;
+        valid = asyncErrors.isEmpty();
+        errors = asyncErrors;
+        if (show && errorHandler != null) {
+            if (valid) {
+                errorHandler.clearErrors();
+            } else {
+                errorHandler.showErrors(asyncErrors);
+            }
+        }
+        if (valid != oldValid) {
+            eventBus.fireEvent(new ValidationChangedEvent(valid));
+        }
+    }
+
     @Override
     public void fireEvent(GwtEvent<?> event) {
         eventBus.fireEvent(event);
@@ -121,6 +176,9 @@ public class ValidatorMixin<W extends Widget & HasValue<V> & Editor<V>, V> imple
 
     @Override
     public void reset() {
+        if (asyncScheduler != null) {
+            asyncScheduler.cancel();
+        }
         if (errorHandler != null) {
             errorHandler.clearErrors();
         }
@@ -153,34 +211,80 @@ public class ValidatorMixin<W extends Widget & HasValue<V> & Editor<V>, V> imple
         return validate(true);
     }
 
+    /**
+     * @return the errors of the last validation.
+     */
+    public List<EditorError> getErrors() {
+        return errors;
+    }
+
     /**
      * {@inheritDoc}
+     * <p>
+     * While the async validators of the value are running the value is not considered valid, the
+     * current validity and errors are kept until their result arrives.
      */
     @Override
     public boolean validate(boolean show) {
-        Boolean oldValid = valid;
-        valid = true;
-        if (errorHandler != null && !validators.isEmpty()) {
-            List<EditorError> errors = new ArrayList<>();
+        List<EditorError> validationErrors = null;
+        if (errorHandler != null && (!validators.isEmpty() || hasAsyncValidators())) {
+            V value = inputWidget.getValue();
             for (ValidatorWrapper<V> wrapper : validators) {
                 Validator<V> validator = wrapper.getValidator();
-                List<EditorError> result = validator.validate(inputWidget, inputWidget.getValue());
+                List<EditorError> result = validator.validate(inputWidget, value);
                 if (result != null && !result.isEmpty()) {
-                    errors.addAll(result);
-                    valid = false;
+                    if (validationErrors == null) {
+                        validationErrors = new ArrayList<>(result.size());
+                    }
+                    validationErrors.addAll(result);
+                }
+            }
+            if (hasAsyncValidators()) {
+                if (validationErrors != null) {
+                    asyncScheduler.cancel();
+                } else {
+                    List<EditorError> asyncErrors = validateAsync(value, show);
+                    if (asyncErrors == null) {
+                        // Pending, the result will update the state
+                        return false;
+                    }
+                    if (!asyncErrors.isEmpty()) {
+                        validationErrors = asyncErrors;
+                    }
                 }
             }
             if (show) {
-                if (errors.size() > 0) {
-                    errorHandler.showErrors(errors);
+                if (validationErrors != null) {
+                    errorHandler.showErrors(validationErrors);
                 } else {
                     errorHandler.clearErrors();
                 }
             }
         }
+
+        Boolean oldValid = valid;
+        valid = validationErrors == null;
+        errors = validationErrors != null ? validationErrors : Collections.emptyList();
         if (valid != oldValid) {
             eventBus.fireEvent(new ValidationChangedEvent(valid));
         }
         return valid;
     }
+
+    /**
+     * Get the async result of the value, reusing the last one while the value is unchanged or
+     * scheduling the async validators otherwise.
+     *
+     * @return the async errors of the value, null while they are pending.
+     */
+    protected List<EditorError> validateAsync(V value, boolean show) {
+        List<EditorError> asyncErrors = asyncScheduler.getResult(value);
+        if (asyncErrors != null) {
+            asyncScheduler.cancel();
+            return asyncErrors;
+        }
+        asyncScheduler.schedule(value, show);
+        // Validators calling back synchronously complete while being scheduled
+        return asyncScheduler.getResult(value);
+    }
 }
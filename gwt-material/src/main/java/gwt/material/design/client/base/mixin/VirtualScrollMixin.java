@@ -0,0 +1,357 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.mixin;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import gwt.material.design.client.base.HasVirtualScroll;
+import gwt.material.design.client.base.MaterialWidget;
+import gwt.material.design.client.constants.CssName;
+import gwt.material.design.client.ui.html.ListItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Renders a list of items into a scrollable container by only creating rows for the
+ * visible window plus an overscan buffer. Two spacer items keep the scroll height of
+ * the full list, and rows leaving the window are recycled for the rows entering it.
+ */
+public class VirtualScrollMixin<T extends MaterialWidget, I> extends AbstractMixin<T> implements HasVirtualScroll {
+
+    public static final String DATA_INDEX = "data-index";
+    public static final int DEFAULT_VISIBLE_ROWS = 10;
+
+    /**
+     * Binds an item to a (possibly recycled) row.
+     */
+    public interface RowRenderer<I> {
+        void render(ListItem row, I item, int index);
+    }
+
+    private boolean virtualScroll;
+    private int rowHeight = 50;
+    private int overscan = 5;
+    private int activeIndex = -1;
+    private int firstIndex;
+    private boolean renderPending;
+
+    private List<I> items = Collections.emptyList();
+    private RowRenderer<I> renderer;
+    private final List<ListItem> rows = new ArrayList<>();
+    private ListItem topSpacer;
+    private ListItem bottomSpacer;
+
+    private HandlerRegistration scrollHandler;
+    private HandlerRegistration attachHandler;
+
+    public VirtualScrollMixin(T uiObject) {
+        super(uiObject);
+    }
+
+    @Override
+    public void setVirtualScroll(boolean virtualScroll) {
+        this.virtualScroll = virtualScroll;
+
+        if (virtualScroll) {
+            if (scrollHandler == null) {
+                scrollHandler = uiObject.addDomHandler(event -> scheduleRender(), ScrollEvent.getType());
+            }
+            if (attachHandler == null) {
+                attachHandler = uiObject.addAttachHandler(event -> {
+                    if (event.isAttached()) {
+                        render();
+                    }
+                });
+            }
+            Style style = uiObject.getElement().getStyle();
+            style.setOverflowY(Style.Overflow.AUTO);
+            style.setProperty("maxHeight", rowHeight * DEFAULT_VISIBLE_ROWS + "px");
+        } else {
+            if (scrollHandler != null) {
+                scrollHandler.removeHandler();
+                scrollHandler = null;
+            }
+            if (attachHandler != null) {
+                attachHandler.removeHandler();
+                attachHandler = null;
+            }
+            clear();
+        }
+    }
+
+    @Override
+    public boolean isVirtualScroll() {
+        return virtualScroll;
+    }
+
+    @Override
+    public void setRowHeight(int rowHeight) {
+        this.rowHeight = Math.max(1, rowHeight);
+        invalidateRows();
+        render();
+    }
+
+    @Override
+    public int getRowHeight() {
+        return rowHeight;
+    }
+
+    @Override
+    public void setOverscan(int overscan) {
+        this.overscan = Math.max(0, overscan);
+        render();
+    }
+
+    @Override
+    public int getOverscan() {
+        return overscan;
+    }
+
+    /**
+     * Set the items to be rendered, the list is used as is and not copied.
+     */
+    public void setItems(List<I> items, RowRenderer<I> renderer) {
+        this.items = items != null ? items : Collections.emptyList();
+        this.renderer = renderer;
+        activeIndex = -1;
+        invalidateRows();
+        uiObject.getElement().setScrollTop(0);
+        render();
+    }
+
+    public List<I> getItems() {
+        return items;
+    }
+
+    public I getItem(int index) {
+        return index >= 0 && index < items.size() ? items.get(index) : null;
+    }
+
+    /**
+     * Get the rows currently rendered, in display order.
+     */
+    public List<ListItem> getRows() {
+        return rows;
+    }
+
+    public ListItem getRow(int index) {
+        int position = index - firstIndex;
+        return position >= 0 && position < rows.size() ? rows.get(position) : null;
+    }
+
+    /**
+     * Find the item index of the row containing the given element.
+     *
+     * @return the item index or <code>-1</code> if the element is not part of a row
+     */
+    public int getIndexOf(Element element) {
+        Element container = uiObject.getElement();
+        for (Element current = element; current != null && current != container; current = current.getParentElement()) {
+            if (current.hasAttribute(DATA_INDEX)) {
+                return Integer.parseInt(current.getAttribute(DATA_INDEX));
+            }
+        }
+        return -1;
+    }
+
+    public void setActiveIndex(int index) {
+        if (items.isEmpty()) {
+            activeIndex = -1;
+        } else {
+            activeIndex = Math.max(0, Math.min(items.size() - 1, index));
+            scrollToIndex(activeIndex);
+        }
+        render();
+    }
+
+    public int getActiveIndex() {
+        return activeIndex;
+    }
+
+    public I getActiveItem() {
+        return getItem(activeIndex);
+    }
+
+    /**
+     * Move the active (keyboard highlighted) row by the given delta.
+     */
+    public void moveActive(int delta) {
+        setActiveIndex(activeIndex < 0 && delta < 0 ? items.size() - 1 : activeIndex + delta);
+    }
+
+    /**
+     * Scroll the container the least amount needed for the given item to be visible.
+     */
+    public void scrollToIndex(int index) {
+        Element element = uiObject.getElement();
+        int top = index * rowHeight;
+        int scrollTop = element.getScrollTop();
+        int viewportHeight = getViewportHeight();
+        if (top < scrollTop) {
+            element.setScrollTop(top);
+        } else if (top + rowHeight > scrollTop + viewportHeight) {
+            element.setScrollTop(top + rowHeight - viewportHeight);
+        }
+    }
+
+    protected void scheduleRender() {
+        if (!renderPending) {
+            renderPending = true;
+            AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                renderPending = false;
+                render();
+            });
+        }
+    }
+
+    /**
+     * Render the rows of the current visible window, only rows that display a different
+     * item than before are passed to the {@link RowRenderer}.
+     */
+    public void render() {
+        if (!virtualScroll || !uiObject.isAttached() || renderer == null) {
+            return;
+        }
+        ensureSpacers();
+
+        int size = items.size();
+        int visibleRows = (int) Math.ceil(getViewportHeight() / (double) rowHeight);
+        int first = Math.min(Math.max(0, uiObject.getElement().getScrollTop() / rowHeight - overscan), size);
+        int last = Math.min(size, first + visibleRows + (overscan * 2));
+
+        recycleRows(first - firstIndex);
+        resizeRows(last - first);
+        firstIndex = first;
+
+        for (int i = 0; i < rows.size(); i++) {
+            ListItem row = rows.get(i);
+            int index = first + i;
+            if (getRowIndex(row) != index) {
+                row.getElement().setAttribute(DATA_INDEX, String.valueOf(index));
+                renderer.render(row, items.get(index), index);
+            }
+            row.setStyleName(CssName.ACTIVE, index == activeIndex);
+        }
+
+        topSpacer.getElement().getStyle().setHeight(first * rowHeight, Style.Unit.PX);
+        bottomSpacer.getElement().getStyle().setHeight((size - last) * rowHeight, Style.Unit.PX);
+    }
+
+    /**
+     * Move the rows that scrolled out of the window to the other end, so they can be rebound
+     * to the items scrolling in while the rows still in the window keep their content.
+     */
+    protected void recycleRows(int shift) {
+        if (shift == 0 || Math.abs(shift) >= rows.size()) {
+            return;
+        }
+        Element container = uiObject.getElement();
+        if (shift > 0) {
+            for (int i = 0; i < shift; i++) {
+                ListItem row = rows.remove(0);
+                rows.add(row);
+                container.insertBefore(row.getElement(), bottomSpacer.getElement());
+            }
+        } else {
+            for (int i = 0; i < -shift; i++) {
+                ListItem row = rows.remove(rows.size() - 1);
+                rows.add(0, row);
+                container.insertAfter(row.getElement(), topSpacer.getElement());
+            }
+        }
+    }
+
+    protected void resizeRows(int count) {
+        while (rows.size() < count) {
+            ListItem row = new ListItem();
+            Style style = row.getElement().getStyle();
+            style.setDisplay(Style.Display.BLOCK);
+            style.setHeight(rowHeight, Style.Unit.PX);
+            style.setProperty("minHeight", rowHeight + "px");
+            style.setOverflow(Style.Overflow.HIDDEN);
+            rows.add(row);
+            uiObject.add(row);
+            uiObject.getElement().insertBefore(row.getElement(), bottomSpacer.getElement());
+        }
+        while (rows.size() > count) {
+            rows.remove(rows.size() - 1).removeFromParent();
+        }
+    }
+
+    protected void ensureSpacers() {
+        if (topSpacer == null || topSpacer.getParent() != uiObject) {
+            // The container may have been cleared behind our back
+            clear();
+            topSpacer = createSpacer();
+            bottomSpacer = createSpacer();
+            uiObject.add(topSpacer);
+            uiObject.add(bottomSpacer);
+        }
+    }
+
+    protected ListItem createSpacer() {
+        ListItem spacer = new ListItem();
+        Style style = spacer.getElement().getStyle();
+        style.setDisplay(Style.Display.BLOCK);
+        style.setPadding(0, Style.Unit.PX);
+        style.setProperty("minHeight", "0");
+        return spacer;
+    }
+
+    protected void invalidateRows() {
+        for (ListItem row : rows) {
+            row.getElement().removeAttribute(DATA_INDEX);
+            row.getElement().getStyle().setHeight(rowHeight, Style.Unit.PX);
+            row.getElement().getStyle().setProperty("minHeight", rowHeight + "px");
+        }
+    }
+
+    /**
+     * Remove all rendered rows and spacers from the container.
+     */
+    public void clear() {
+        for (ListItem row : rows) {
+            row.removeFromParent();
+        }
+        rows.clear();
+        if (topSpacer != null) {
+            topSpacer.removeFromParent();
+            bottomSpacer.removeFromParent();
+            topSpacer = null;
+            bottomSpacer = null;
+        }
+        firstIndex = 0;
+    }
+
+    protected int getViewportHeight() {
+        int height = uiObject.getElement().getClientHeight();
+        return height > 0 ? height : rowHeight * DEFAULT_VISIBLE_ROWS;
+    }
+
+    protected int getRowIndex(ListItem row) {
+        String index = row.getElement().getAttribute(DATA_INDEX);
+        return index == null || index.isEmpty() ? -1 : Integer.parseInt(index);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.search;
+
+import gwt.material.design.client.base.SearchObject;
+
+import java.util.*;
+
+/**
+ * A lowercased n-gram index over the {@link SearchObject#getKeyword()} of a list of
+ * search objects. A query is only verified against the objects sharing its rarest
+ * n-gram, and a query extending the previous one only narrows down the previous matches.
+ * <p>
+ * The index is built lazily and rebuilt once the size of the object list changes or
+ * {@link #invalidate()} is called.
+ */
+public class SearchIndex {
+
+    public static final int GRAM_SIZE = 3;
+
+    private List<SearchObject> objects;
+    private String[] keywords = new String[0];
+    private final Map<String, List<Integer>> grams = new HashMap<>();
+    private int indexedSize = -1;
+
+    private String lastQuery;
+    private List<Integer> lastMatches;
+
+    public SearchIndex() {
+        this(new ArrayList<>());
+    }
+
+    public SearchIndex(List<SearchObject> objects) {
+        setObjects(objects);
+    }
+
+    public void setObjects(List<SearchObject> objects) {
+        this.objects = objects != null ? objects : new ArrayList<>();
+        invalidate();
+    }
+
+    public List<SearchObject> getObjects() {
+        return objects;
+    }
+
+    /**
+     * Force the index to be rebuilt on the next search, required when keywords
+     * of the indexed objects were modified.
+     */
+    public void invalidate() {
+        indexedSize = -1;
+        lastQuery = null;
+        lastMatches = null;
+    }
+
+    /**
+     * Find all objects whose keyword contains the given query, ignoring case.
+     */
+    public List<SearchObject> search(String query) {
+        return search(query, 0);
+    }
+
+    /**
+     * Find the objects whose keyword contains the given query, ignoring case.
+     *
+     * @param limit the maximum number of results, zero or less for no limit.
+     */
+    public List<SearchObject> search(String query, int limit) {
+        List<Integer> matches = match(query);
+        int size = limit > 0 ? Math.min(limit, matches.size()) : matches.size();
+        List<SearchObject> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(objects.get(matches.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * @return the number of objects matching the given query, regardless of any limit.
+     */
+    public int count(String query) {
+        return match(query).size();
+    }
+
+    protected List<Integer> match(String query) {
+        ensureIndex();
+
+        String keyword = query != null ? query.toLowerCase() : "";
+        if (keyword.equals(lastQuery)) {
+            return lastMatches;
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        List<Integer> candidates = getCandidates(keyword);
+        if (candidates == null) {
+            for (int i = 0; i < keywords.length; i++) {
+                if (keywords[i].contains(keyword)) {
+                    matches.add(i);
+                }
+            }
+        } else {
+            for (Integer i : candidates) {
+                if (keywords[i].contains(keyword)) {
+                    matches.add(i);
+                }
+            }
+        }
+
+        lastQuery = keyword;
+        lastMatches = matches;
+        return matches;
+    }
+
+    /**
+     * @return the object indexes to verify against the keyword, or <code>null</code> if all objects are candidates.
+     */
+    protected List<Integer> getCandidates(String keyword) {
+        if (lastQuery != null && keyword.contains(lastQuery)) {
+            // Anything matching the new keyword matched the previous one as well
+            return lastMatches;
+        }
+
+        if (keyword.length() < GRAM_SIZE) {
+            return null;
+        }
+
+        List<Integer> rarest = null;
+        for (int i = 0; i + GRAM_SIZE <= keyword.length(); i++) {
+            List<Integer> postings = grams.get(keyword.substring(i, i + GRAM_SIZE));
+            if (postings == null) {
+                return Collections.emptyList();
+            }
+            if (rarest == null || postings.size() < rarest.size()) {
+                rarest = postings;
+            }
+        }
+        return rarest;
+    }
+
+    protected void ensureIndex() {
+        if (indexedSize != objects.size()) {
+            build();
+        }
+    }
+
+    protected void build() {
+        grams.clear();
+        keywords = new String[objects.size()];
+
+        for (int i = 0; i < keywords.length; i++) {
+            String keyword = objects.get(i).getKeyword();
+            keywords[i] = keyword != null ? keyword.toLowerCase() : "";
+
+            for (int j = 0; j + GRAM_SIZE <= keywords[i].length(); j++) {
+                String gram = keywords[i].substring(j, j + GRAM_SIZE);
+                List<Integer> postings = grams.get(gram);
+                if (postings == null) {
+                    postings = new ArrayList<>();
+                    grams.put(gram, postings);
+                }
+                // Postings are sorted, so a repeated gram only needs a check of the last entry
+                if (postings.isEmpty() || postings.get(postings.size() - 1) != i) {
+                    postings.add(i);
+                }
+            }
+        }
+
+        indexedSize = objects.size();
+        lastQuery = null;
+        lastMatches = null;
+    }
+}
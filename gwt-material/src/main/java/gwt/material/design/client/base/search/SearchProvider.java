@@ -0,0 +1,42 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.search;
+
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import gwt.material.design.client.base.SearchObject;
+
+import java.util.List;
+
+/**
+ * Provides the search results of a {@link gwt.material.design.client.ui.MaterialSearch}, e.g. from
+ * a server endpoint or a web worker, instead of filtering an in-memory list of search objects.
+ */
+public interface SearchProvider {
+
+    /**
+     * Find the search objects matching the given keyword. The callback may be called
+     * asynchronously, responses of superseded queries are ignored by the search component.
+     *
+     * @param keyword  the text entered by the user.
+     * @param limit    the maximum number of results, zero or less for no limit.
+     * @param callback receives the matching search objects.
+     */
+    void search(String keyword, int limit, AsyncCallback<List<SearchObject>> callback);
+}
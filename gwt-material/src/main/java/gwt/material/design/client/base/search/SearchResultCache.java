@@ -0,0 +1,81 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.search;
+
+import gwt.material.design.client.base.SearchObject;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A small least recently used cache of keyword to search results.
+ */
+public class SearchResultCache {
+
+    private int maxSize;
+    private final LinkedHashMap<String, List<SearchObject>> entries =
+        new LinkedHashMap<String, List<SearchObject>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SearchObject>> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+    public SearchResultCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public List<SearchObject> get(String keyword) {
+        return entries.get(keyword);
+    }
+
+    public void put(String keyword, List<SearchObject> results) {
+        if (maxSize > 0) {
+            entries.put(keyword, results);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Set the maximum number of cached keywords, zero disables the cache.
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (entries.size() > this.maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
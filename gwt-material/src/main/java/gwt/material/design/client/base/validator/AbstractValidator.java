@@ -25,6 +25,7 @@ import com.google.gwt.editor.client.EditorError;
 import gwt.material.design.client.base.error.BasicEditorError;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -39,7 +40,7 @@ public abstract class AbstractValidator<T> implements Validator<T> {
 
     private String messageKey;
 
-    private ValidatorMessageMixin messageMixin = GWT.create(ValidatorMessageMixin.class);
+    private static ValidatorMessageMixin messageMixin;
 
     private Object[] messageValueArgs;
 
@@ -88,10 +89,20 @@ public abstract class AbstractValidator<T> implements Validator<T> {
      * @return the invalid message
      */
     public String getInvalidMessage(String key) {
-        return invalidMessageOverride == null ? messageMixin.lookup(key, messageValueArgs) : MessageFormat.format(
+        return invalidMessageOverride == null ? getMessageMixin().lookup(key, messageValueArgs) : MessageFormat.format(
                 invalidMessageOverride, messageValueArgs);
     }
 
+    /**
+     * The message mixin is stateless and shared by all the validators.
+     */
+    protected static ValidatorMessageMixin getMessageMixin() {
+        if (messageMixin == null) {
+            messageMixin = GWT.create(ValidatorMessageMixin.class);
+        }
+        return messageMixin;
+    }
+
     /**
      * Checks if is valid.
      *
@@ -102,14 +113,16 @@ public abstract class AbstractValidator<T> implements Validator<T> {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * A valid value returns the shared immutable empty list, the error list is only created when
+     * the value is invalid.
      */
     @Override
     public final List<EditorError> validate(Editor<T> editor, T value) {
-        List<EditorError> result = new ArrayList<>();
-        if (!isValid(value)) {
-            result.add(new BasicEditorError(editor, value, getInvalidMessage(messageKey)));
+        if (isValid(value)) {
+            return Collections.emptyList();
         }
-        return result;
+        return createErrorList(editor, value, messageKey);
     }
 
 }
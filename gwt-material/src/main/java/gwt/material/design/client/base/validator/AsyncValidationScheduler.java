@@ -0,0 +1,195 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.validator;
+
+import com.google.gwt.editor.client.Editor;
+import com.google.gwt.editor.client.EditorError;
+import com.google.gwt.user.client.Timer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Schedules the {@link AsyncValidator}s of a field. Runs are debounced, scheduling a new run cancels
+ * the pending one and the results of stale runs are dropped, so only the result for the latest
+ * value reaches the {@link ResultHandler}.
+ *
+ * @param <V> the value type
+ */
+public class AsyncValidationScheduler<V> {
+
+    /**
+     * Receives the result of the latest run.
+     */
+    public interface ResultHandler<V> {
+        void onResult(V value, List<EditorError> errors, boolean show);
+    }
+
+    public static final int DEFAULT_DELAY = 300;
+
+    private final Editor<V> editor;
+    private final ResultHandler<V> resultHandler;
+    private final List<AsyncValidator<V>> validators = new ArrayList<>();
+
+    private int delay = DEFAULT_DELAY;
+    private Timer timer;
+    private int runId;
+    private boolean pending;
+    private boolean show;
+
+    private boolean hasResult;
+    private V resultValue;
+    private List<EditorError> resultErrors;
+
+    public AsyncValidationScheduler(Editor<V> editor, ResultHandler<V> resultHandler) {
+        this.editor = editor;
+        this.resultHandler = resultHandler;
+    }
+
+    public void addValidator(AsyncValidator<V> validator) {
+        validators.add(validator);
+        invalidate();
+    }
+
+    public boolean removeValidator(AsyncValidator<V> validator) {
+        invalidate();
+        return validators.remove(validator);
+    }
+
+    public boolean hasValidators() {
+        return !validators.isEmpty();
+    }
+
+    /**
+     * Schedule a run for the value after the debounce delay, cancelling the pending one.
+     *
+     * @param show whether the result is shown to the user, kept if a pending run asked for it.
+     */
+    public void schedule(final V value, boolean show) {
+        final int id = cancelRun();
+        this.show |= show;
+        pending = true;
+
+        if (delay <= 0) {
+            run(value, id);
+        } else {
+            timer = new Timer() {
+                @Override
+                public void run() {
+                    timer = null;
+                    AsyncValidationScheduler.this.run(value, id);
+                }
+            };
+            timer.schedule(delay);
+        }
+    }
+
+    protected void run(final V value, final int id) {
+        if (id != runId) {
+            return;
+        }
+        final List<EditorError> errors = new ArrayList<>();
+        if (validators.isEmpty()) {
+            complete(value, errors);
+            return;
+        }
+        final int[] remaining = {validators.size()};
+        for (AsyncValidator<V> validator : new ArrayList<>(validators)) {
+            final boolean[] done = {false};
+            validator.validate(editor, value, result -> {
+                if (done[0] || id != runId) {
+                    // Already answered or stale
+                    return;
+                }
+                done[0] = true;
+                if (result != null) {
+                    errors.addAll(result);
+                }
+                if (--remaining[0] == 0) {
+                    complete(value, errors);
+                }
+            });
+        }
+    }
+
+    protected void complete(V value, List<EditorError> errors) {
+        boolean show = this.show;
+        pending = false;
+        this.show = false;
+
+        hasResult = true;
+        resultValue = value;
+        resultErrors = errors.isEmpty() ? Collections.emptyList() : errors;
+        resultHandler.onResult(value, resultErrors, show);
+    }
+
+    /**
+     * Cancel the pending run, its result will be ignored.
+     */
+    public void cancel() {
+        cancelRun();
+        pending = false;
+        show = false;
+    }
+
+    private int cancelRun() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
+        return ++runId;
+    }
+
+    /**
+     * @return the errors of the last completed run if it was for the given value, null otherwise.
+     */
+    public List<EditorError> getResult(V value) {
+        return hasResult && Objects.equals(resultValue, value) ? resultErrors : null;
+    }
+
+    /**
+     * Forget the last result, the next validation runs the validators again.
+     */
+    public void invalidate() {
+        hasResult = false;
+        resultValue = null;
+        resultErrors = null;
+    }
+
+    /**
+     * @return true while a run is scheduled or waiting for its validators.
+     */
+    public boolean isPending() {
+        return pending;
+    }
+
+    public int getDelay() {
+        return delay;
+    }
+
+    /**
+     * Set the debounce delay in milliseconds, 0 runs the validators right away.
+     */
+    public void setDelay(int delay) {
+        this.delay = delay;
+    }
+}
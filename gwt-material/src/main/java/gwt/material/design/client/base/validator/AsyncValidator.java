@@ -0,0 +1,54 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.validator;
+
+import com.google.gwt.editor.client.Editor;
+import com.google.gwt.editor.client.EditorError;
+
+import java.util.List;
+
+/**
+ * An input validator whose result is not known right away, like a uniqueness check on the server.
+ * Async validators run after the synchronous {@link Validator}s passed, scheduled by the
+ * {@link AsyncValidationScheduler} of the field.
+ *
+ * @param <T> the type.
+ */
+public interface AsyncValidator<T> {
+
+    /**
+     * Receives the result of an asynchronous validation.
+     */
+    interface Callback {
+        /**
+         * @param errors the errors, empty or null when the value is valid.
+         */
+        void onValidated(List<EditorError> errors);
+    }
+
+    /**
+     * Validate the field, the callback must be called exactly once with the result.
+     *
+     * @param editor   the {@link Editor}.
+     * @param value    the value
+     * @param callback the callback receiving the errors.
+     */
+    void validate(Editor<T> editor, T value, Callback callback);
+}
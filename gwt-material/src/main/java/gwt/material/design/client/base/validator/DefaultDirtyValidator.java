@@ -19,6 +19,11 @@
  */
 package gwt.material.design.client.base.validator;
 
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.user.client.DOM;
+import com.google.gwt.user.client.EventListener;
 import com.google.gwt.user.client.ui.HasValue;
 import com.google.gwt.user.client.ui.HasWidgets;
 import com.google.gwt.user.client.ui.Widget;
@@ -26,15 +31,54 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
 import gwt.material.design.client.base.IsPropagateToChildren;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
+ * Tracks the fields of a content widget, a field is dirty when its current value differs from the
+ * value it had when it was first tracked. The content is observed once, so fields attached later
+ * on are tracked automatically and the ones removed are released.
+ * <p>
  * //TODO: Leaving/Abandoning validator (Name)
  * @author kevzlou7979@gmail.com
  */
 public class DefaultDirtyValidator<C extends Widget> implements DirtyValidator, IsPropagateToChildren {
 
-    private List<HandlerRegistration> registrations;
+    /**
+     * The tracked state of a single field.
+     */
+    protected static class DirtyField {
+        private final HasValue<?> field;
+        private final HandlerRegistration registration;
+        private Object originalValue;
+
+        DirtyField(HasValue<?> field, HandlerRegistration registration) {
+            this.field = field;
+            this.registration = registration;
+            this.originalValue = field.getValue();
+        }
+
+        public HasValue<?> getField() {
+            return field;
+        }
+
+        public Object getOriginalValue() {
+            return originalValue;
+        }
+
+        public boolean isDirty() {
+            return !isSameValue(originalValue, field.getValue());
+        }
+    }
+
+    private final Map<HasValue<?>, DirtyField> fields = new LinkedHashMap<>();
+    private final Set<HasValue<?>> dirtyFields = new LinkedHashSet<>();
+    private JavaScriptObject observer;
     private boolean allowDirty;
     private boolean propagateToChildren = true;
     private boolean dirty;
@@ -52,40 +96,54 @@ public class DefaultDirtyValidator<C extends Widget> implements DirtyValidator,
 
     @Override
     public void setAllowDirtyValidation(boolean allowDirty) {
+        if (this.allowDirty == allowDirty) {
+            return;
+        }
         this.allowDirty = allowDirty;
 
         if (allowDirty) {
-            registrations = new ArrayList<>();
             detectDirtyFields(content);
+            observer = observe(content.getElement());
         } else {
-            if (registrations != null) {
-                registrations.clear();
-                registrations.forEach(HandlerRegistration::removeHandler);
-                setDirty(false);
+            if (observer != null) {
+                disconnect(observer);
+                observer = null;
+            }
+            for (DirtyField dirtyField : fields.values()) {
+                dirtyField.registration.removeHandler();
             }
+            fields.clear();
+            dirtyFields.clear();
+            dirty = false;
         }
     }
 
     @Override
     public boolean isDirty() {
-        return dirty;
+        return dirty || !dirtyFields.isEmpty();
+    }
+
+    /**
+     * @return the tracked fields whose value differs from their original value.
+     */
+    @Override
+    public List<HasValue<?>> getDirtyFields() {
+        return new ArrayList<>(dirtyFields);
+    }
+
+    public boolean isTracked(HasValue<?> field) {
+        return fields.containsKey(field);
     }
 
     /**
-     * Will check all components that extends to {@link HasValue} and
-     * registers a {@link com.google.gwt.event.logical.shared.ValueChangeEvent}.
-     * Once value has been changed then we mark that our content wrapping it is dirty.
+     * Will check all components that extends to {@link HasValue} and track their values.
+     * Once a value has been changed then we mark that our content wrapping it is dirty.
      */
     protected void detectDirtyFields(Widget parent) {
         if (parent instanceof HasWidgets) {
             for (Widget widget : (HasWidgets) parent) {
                 if (widget instanceof HasValue) {
-                    HasValue valueWidget = (HasValue) widget;
-                    registrations.add(valueWidget.addValueChangeHandler(event -> {
-                        if (valueWidget.getValue() != null && ! valueWidget.getValue().equals("")) {
-                            setDirty(true);
-                        }
-                    }));
+                    track((HasValue<?>) widget);
                 } else {
                     if (propagateToChildren) {
                         detectDirtyFields(widget);
@@ -95,9 +153,121 @@ public class DefaultDirtyValidator<C extends Widget> implements DirtyValidator,
         }
     }
 
+    protected void track(HasValue<?> field) {
+        if (fields.containsKey(field)) {
+            return;
+        }
+        HandlerRegistration registration = field.addValueChangeHandler(event -> updateDirtyState(field));
+        fields.put(field, new DirtyField(field, registration));
+    }
+
+    protected void untrack(HasValue<?> field) {
+        DirtyField dirtyField = fields.remove(field);
+        if (dirtyField != null) {
+            dirtyField.registration.removeHandler();
+            dirtyFields.remove(field);
+        }
+    }
+
+    protected void updateDirtyState(HasValue<?> field) {
+        DirtyField dirtyField = fields.get(field);
+        if (dirtyField != null) {
+            if (dirtyField.isDirty()) {
+                dirtyFields.add(field);
+            } else {
+                dirtyFields.remove(field);
+            }
+        }
+    }
+
+    /**
+     * Called once per batch of DOM mutations of the content.
+     */
+    protected void onContentChanged(JsArray<Element> added, boolean removed) {
+        if (removed) {
+            Element contentElement = content.getElement();
+            Iterator<HasValue<?>> iterator = fields.keySet().iterator();
+            while (iterator.hasNext()) {
+                HasValue<?> field = iterator.next();
+                if (!(field instanceof Widget) || !contentElement.isOrHasChild(((Widget) field).getElement())) {
+                    fields.get(field).registration.removeHandler();
+                    dirtyFields.remove(field);
+                    iterator.remove();
+                }
+            }
+        }
+
+        for (int i = 0; i < added.length(); i++) {
+            Widget widget = findWidget(added.get(i));
+            if (widget != null && !isWithinField(widget) && (propagateToChildren || widget.getParent() == content)) {
+                if (widget instanceof HasValue) {
+                    track((HasValue<?>) widget);
+                } else {
+                    detectDirtyFields(widget);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the widget whose root is the given element, attached widgets are the event listeners of
+     * their element.
+     */
+    protected Widget findWidget(Element element) {
+        EventListener listener = DOM.getEventListener(element);
+        return listener instanceof Widget && ((Widget) listener).getElement() == element ? (Widget) listener : null;
+    }
+
+    protected boolean isWithinField(Widget widget) {
+        for (Widget parent = widget.getParent(); parent != null && parent != content; parent = parent.getParent()) {
+            if (parent instanceof HasValue && fields.containsKey(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static boolean isSameValue(Object original, Object current) {
+        return Objects.equals(original == null ? "" : original, current == null ? "" : current);
+    }
+
+    private native JavaScriptObject observe(Element element) /*-{
+        var self = this;
+        var observer = new $wnd.MutationObserver($entry(function (mutations) {
+            var added = [];
+            var removed = false;
+            for (var i = 0; i < mutations.length; i++) {
+                var nodes = mutations[i].addedNodes;
+                for (var j = 0; j < nodes.length; j++) {
+                    if (nodes[j].nodeType === 1) {
+                        added.push(nodes[j]);
+                    }
+                }
+                removed = removed || mutations[i].removedNodes.length > 0;
+            }
+            self.@gwt.material.design.client.base.validator.DefaultDirtyValidator::onContentChanged(*)(added, removed);
+        }));
+        observer.observe(element, {childList: true, subtree: true});
+        return observer;
+    }-*/;
+
+    private static native void disconnect(JavaScriptObject observer) /*-{
+        observer.disconnect();
+    }-*/;
+
+    /**
+     * Setting the content as not dirty takes the current values of the fields as their original values.
+     */
     @Override
     public void setDirty(boolean dirty) {
         this.dirty = dirty;
+
+        if (!dirty) {
+            for (DirtyField dirtyField : fields.values()) {
+                dirtyField.originalValue = dirtyField.field.getValue();
+            }
+            dirtyFields.clear();
+        }
     }
 
     @Override
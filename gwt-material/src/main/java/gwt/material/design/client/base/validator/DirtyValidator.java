@@ -19,6 +19,11 @@
  */
 package gwt.material.design.client.base.validator;
 
+import com.google.gwt.user.client.ui.HasValue;
+
+import java.util.Collections;
+import java.util.List;
+
 public interface DirtyValidator {
 
     /**
@@ -41,5 +46,13 @@ public interface DirtyValidator {
      */
     void setDirty(boolean dirty);
 
+    /**
+     * Get the fields whose value differs from their original value,
+     * by default none for validators that do not track fields.
+     */
+    default List<HasValue<?>> getDirtyFields() {
+        return Collections.emptyList();
+    }
+
     String getDirtyMessage();
 }
@@ -19,6 +19,7 @@
  */
 package gwt.material.design.client.base.validator;
 
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.event.shared.GwtEvent;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.web.bindery.event.shared.EventBus;
@@ -26,7 +27,10 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
 import com.google.web.bindery.event.shared.SimpleEventBus;
 import gwt.material.design.client.base.validator.ValidationChangedEvent.ValidationChangedHandler;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,6 +40,15 @@ import java.util.Map;
  */
 public class GroupValidator implements ValidationChangedEvent.HasValidationChangedHandlers {
 
+    /**
+     * Notified once an asynchronous validation of the group completes.
+     */
+    public interface Callback {
+        void onValidated(boolean valid);
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
     private final SimpleEventBus eventBus;
 
     private boolean fireEvents = false;
@@ -46,6 +59,14 @@ public class GroupValidator implements ValidationChangedEvent.HasValidationChang
 
     private Boolean groupValid = null;
 
+    private int invalidCount;
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private int validationId;
+
+    private boolean validating;
+
     /**
      * Constructor.
      */
@@ -62,16 +83,39 @@ public class GroupValidator implements ValidationChangedEvent.HasValidationChang
      * @param field the field
      */
     public <T extends Widget & HasValidators<?>> void add(final T field) {
-        fields.put(field, field.validate(false));
+        setFieldValid(field, field.validate(false));
         if (field.isAttached()) {
             updateStateAndNotify();
         }
-        registrations.put(field, field.addValidationChangedHandler(event -> {
-            fields.put(field, event.isValid());
+        HandlerRegistration reg = registrations.put(field, field.addValidationChangedHandler(event -> {
+            setFieldValid(field, event.isValid());
             if (fireEvents) {
                 updateStateAndNotify();
             }
         }));
+        if (reg != null) {
+            reg.removeHandler();
+        }
+    }
+
+    /**
+     * Store the state of a field and keep the invalid field count in sync.
+     */
+    protected void setFieldValid(HasValidators<?> field, boolean valid) {
+        Boolean old = fields.put(field, valid);
+        if (old != null && !old) {
+            invalidCount--;
+        }
+        if (!valid) {
+            invalidCount++;
+        }
+    }
+
+    /**
+     * @return the number of invalid fields in the group.
+     */
+    public int getInvalidCount() {
+        return invalidCount;
     }
 
     @Override
@@ -92,7 +136,10 @@ public class GroupValidator implements ValidationChangedEvent.HasValidationChang
      * @return true, if successful
      */
     public <T extends Widget & HasValidators<?>> boolean remove(final T field) {
-        fields.remove(field);
+        Boolean valid = fields.remove(field);
+        if (valid != null && !valid) {
+            invalidCount--;
+        }
         HandlerRegistration reg = registrations.remove(field);
         if (reg != null) {
             reg.removeHandler();
@@ -106,10 +153,7 @@ public class GroupValidator implements ValidationChangedEvent.HasValidationChang
      */
     protected void updateStateAndNotify() {
         Boolean oldGroupValid = groupValid;
-        groupValid = true;
-        for (Boolean valid : fields.values()) {
-            groupValid &= valid;
-        }
+        groupValid = invalidCount == 0;
         if (groupValid != oldGroupValid) {
             eventBus.fireEvent(new ValidationChangedEvent(groupValid));
         }
@@ -131,12 +175,74 @@ public class GroupValidator implements ValidationChangedEvent.HasValidationChang
      * @return true, if successful
      */
     public boolean validate(boolean show) {
+        validationId++;
+        validating = false;
         fireEvents = false;
+        // A field whose async validation is pending is not valid yet, while keeping its state
+        boolean allValid = true;
         for (HasValidators<?> field : fields.keySet()) {
-            field.validate(show);
+            allValid &= field.validate(show);
         }
         fireEvents = true;
         updateStateAndNotify();
-        return groupValid;
+        return groupValid && allValid;
+    }
+
+    /**
+     * Validate the group without blocking the browser, the fields are validated in batches of
+     * {@link #getBatchSize()} using {@link Scheduler#scheduleIncremental(Scheduler.RepeatingCommand)}.
+     * Starting another validation cancels the pending one, its callback is then never called.
+     *
+     * @param show     do we want to show the user the result of the validate via ui marks?
+     * @param callback notified with the group state once all the fields were validated, can be null
+     */
+    public void validateAsync(boolean show, Callback callback) {
+        final int id = ++validationId;
+        final List<HasValidators<?>> pending = new ArrayList<>(fields.keySet());
+        final Iterator<HasValidators<?>> iterator = pending.iterator();
+        // As in validate(boolean), a field whose async validation is pending is not valid yet
+        final boolean[] allValid = {true};
+        validating = true;
+        fireEvents = false;
+
+        Scheduler.get().scheduleIncremental(() -> {
+            if (id != validationId) {
+                return false;
+            }
+            for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+                HasValidators<?> field = iterator.next();
+                if (fields.containsKey(field)) {
+                    allValid[0] &= field.validate(show);
+                }
+            }
+            if (iterator.hasNext()) {
+                return true;
+            }
+            validating = false;
+            fireEvents = true;
+            updateStateAndNotify();
+            if (callback != null) {
+                callback.onValidated(groupValid && allValid[0]);
+            }
+            return false;
+        });
+    }
+
+    /**
+     * @return true while an asynchronous validation is in progress.
+     */
+    public boolean isValidating() {
+        return validating;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set the number of fields validated in each slice of {@link #validateAsync(boolean, Callback)}.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
     }
 }
@@ -19,6 +19,8 @@
  */
 package gwt.material.design.client.base.validator;
 
+import gwt.material.design.client.base.helper.MessageTemplate;
+
 /**
  * A very simple message format implementation.
  *
@@ -34,12 +36,9 @@ public class MessageFormat {
      * @return the formatted result.
      */
     public static String format(String pattern, Object... arguments) {
-        String msg = pattern;
-        if (arguments != null) {
-            for (int index = 0; index < arguments.length; index++) {
-                msg = msg.replaceAll("\\{" + (index + 1) + "\\}", String.valueOf(arguments[index]));
-            }
+        if (pattern == null || arguments == null || arguments.length == 0) {
+            return pattern;
         }
-        return msg;
+        return MessageTemplate.compile(pattern).format(arguments);
     }
 }
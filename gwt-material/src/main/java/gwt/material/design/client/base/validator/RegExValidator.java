@@ -20,6 +20,7 @@
 package gwt.material.design.client.base.validator;
 
 import com.google.gwt.regexp.shared.RegExp;
+import gwt.material.design.client.base.helper.RegExpCache;
 import gwt.material.design.client.base.validator.ValidationMessages.Keys;
 
 /**
@@ -33,12 +34,12 @@ public class RegExValidator extends AbstractValidator<String> {
 
     public RegExValidator(String pattern) {
         super(Keys.REGEX, new Object[0]);
-        regex = RegExp.compile(pattern);
+        regex = RegExpCache.compile(pattern);
     }
 
     public RegExValidator(String pattern, String invalidMessageOverride) {
         super(invalidMessageOverride);
-        regex = RegExp.compile(pattern);
+        regex = RegExpCache.compile(pattern);
     }
 
     @Override
@@ -0,0 +1,98 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.validator;
+
+import com.google.gwt.editor.client.EditorError;
+import com.google.gwt.user.client.ui.HasWidgets;
+import com.google.gwt.user.client.ui.Widget;
+import gwt.material.design.client.base.AbstractValueWidget;
+
+import java.util.List;
+
+/**
+ * Validates every {@link HasValidators} field of a widget tree in a single pass, each widget
+ * being visited once. Fields are not traversed further, their children being part of the field.
+ */
+public class TreeValidator {
+
+    private final ValidationOptions options;
+    private final ValidationResult result = new ValidationResult();
+
+    protected TreeValidator(ValidationOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Validate the fields of the tree.
+     *
+     * @param root    the root of the tree, validated itself when it is a field.
+     * @param options the traversal options.
+     * @return the result of the validation.
+     */
+    public static ValidationResult validate(Widget root, ValidationOptions options) {
+        TreeValidator validator = new TreeValidator(options != null ? options : ValidationOptions.defaults());
+        validator.visit(root);
+        return validator.result;
+    }
+
+    /**
+     * @return false when the traversal must stop.
+     */
+    protected boolean visit(Widget widget) {
+        if (options.isVisibleOnly() && !widget.isVisible()) {
+            return true;
+        }
+
+        if (widget instanceof HasValidators) {
+            validateField((HasValidators<?>) widget);
+            return !isStopped();
+        }
+
+        if (widget instanceof HasWidgets) {
+            for (Widget child : (HasWidgets) widget) {
+                if (!visit(child)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    protected void validateField(HasValidators<?> field) {
+        boolean valid = field.validate(options.isShow());
+        result.addValidated(field, valid, valid ? null : getErrors(field));
+    }
+
+    protected List<EditorError> getErrors(HasValidators<?> field) {
+        if (field instanceof AbstractValueWidget) {
+            return ((AbstractValueWidget<?>) field).getValidationErrors();
+        }
+        return null;
+    }
+
+    protected boolean isStopped() {
+        boolean stopped = !result.isValid() && (options.isFailFast()
+                || (options.getMaxErrors() > 0 && result.getErrorCount() >= options.getMaxErrors()));
+        if (stopped) {
+            result.setComplete(false);
+        }
+        return stopped;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.validator;
+
+/**
+ * Options of a {@link TreeValidator} traversal.
+ */
+public class ValidationOptions {
+
+    private boolean show = true;
+    private boolean failFast;
+    private int maxErrors;
+    private boolean visibleOnly;
+
+    public ValidationOptions() {
+    }
+
+    /**
+     * @return the default options, showing the errors of every field.
+     */
+    public static ValidationOptions defaults() {
+        return new ValidationOptions();
+    }
+
+    public boolean isShow() {
+        return show;
+    }
+
+    /**
+     * Show the result of the validation to the user via ui marks, true by default.
+     */
+    public ValidationOptions setShow(boolean show) {
+        this.show = show;
+        return this;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Stop the traversal at the first invalid field.
+     */
+    public ValidationOptions setFailFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * Stop the traversal once this number of errors is reached, 0 (the default) being unlimited.
+     */
+    public ValidationOptions setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+        return this;
+    }
+
+    public boolean isVisibleOnly() {
+        return visibleOnly;
+    }
+
+    /**
+     * Skip the hidden widgets and all of their children.
+     */
+    public ValidationOptions setVisibleOnly(boolean visibleOnly) {
+        this.visibleOnly = visibleOnly;
+        return this;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.validator;
+
+import com.google.gwt.editor.client.EditorError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of a {@link TreeValidator} traversal, the invalid fields are kept in tree order
+ * with their errors.
+ */
+public class ValidationResult {
+
+    private final Map<HasValidators<?>, List<EditorError>> invalidFields = new LinkedHashMap<>();
+    private int validatedCount;
+    private int errorCount;
+    private boolean complete = true;
+
+    protected void addValidated(HasValidators<?> field, boolean valid, List<EditorError> errors) {
+        validatedCount++;
+        if (!valid) {
+            List<EditorError> fieldErrors = errors != null ? errors : Collections.emptyList();
+            invalidFields.put(field, fieldErrors);
+            errorCount += Math.max(1, fieldErrors.size());
+        }
+    }
+
+    protected void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public boolean isValid() {
+        return invalidFields.isEmpty();
+    }
+
+    /**
+     * @return the invalid fields in tree order.
+     */
+    public List<HasValidators<?>> getInvalidFields() {
+        return new ArrayList<>(invalidFields.keySet());
+    }
+
+    /**
+     * @return the first invalid field in tree order, or null when valid.
+     */
+    public HasValidators<?> getFirstInvalidField() {
+        return invalidFields.isEmpty() ? null : invalidFields.keySet().iterator().next();
+    }
+
+    /**
+     * @return the errors of the field, empty when the field is valid or its errors are not known.
+     */
+    public List<EditorError> getErrors(HasValidators<?> field) {
+        List<EditorError> errors = invalidFields.get(field);
+        return errors != null ? errors : Collections.emptyList();
+    }
+
+    /**
+     * @return the number of errors, an invalid field without known errors counting as one.
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * @return the number of fields validated.
+     */
+    public int getValidatedCount() {
+        return validatedCount;
+    }
+
+    /**
+     * @return false if the traversal stopped early because of the fail fast or max errors options.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
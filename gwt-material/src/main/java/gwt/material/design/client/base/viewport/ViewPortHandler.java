@@ -20,7 +20,6 @@
 package gwt.material.design.client.base.viewport;
 
 import com.google.gwt.event.shared.HandlerRegistration;
-import gwt.material.design.client.js.Window;
 import gwt.material.design.jquery.client.api.Functions;
 
 import java.util.ArrayList;
@@ -107,12 +106,17 @@ public class ViewPortHandler {
     }
 
     /**
-     * Load the windows resize handler with initial view port detection.
+     * Subscribe to the {@link ViewPortService} with initial view port detection.
      */
     protected ViewPort load() {
-        resize = Window.addResizeHandler(event -> {
-            execute(event.getWidth(), event.getHeight());
-        });
+        unload();
+
+        // Only called when one of our boundaries is crossed
+        List<String> queries = new ArrayList<>();
+        for (Boundary boundary : boundaries) {
+            queries.add(boundary.asMediaQuery());
+        }
+        resize = ViewPortService.subscribe(this::execute, queries);
 
         execute(window().width(), (int)window().height());
         return viewPort;
@@ -121,7 +125,7 @@ public class ViewPortHandler {
     protected void execute(int width, int height) {
         boolean match = false;
         for(Boundary boundary : boundaries) {
-            if (Window.matchMedia(boundary.asMediaQuery())) {
+            if (ViewPortService.matches(boundary.asMediaQuery())) {
                 then.call(new ViewPortChange(width, height, boundary));
                 match = true;
             } else if(propagateFallback && fallback != null && !fallback.call(new ViewPortRect(width, height))) {
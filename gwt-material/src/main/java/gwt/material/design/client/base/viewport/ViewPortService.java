@@ -0,0 +1,248 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.base.viewport;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.event.shared.HandlerRegistration;
+import gwt.material.design.client.js.Window;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Central view port service shared by all {@link ViewPortHandler}s and orientation detections.
+ * <br><br>
+ * By default one <code>window.matchMedia(query)</code> listener is registered per distinct media
+ * query and shared by all subscribers, so nothing runs while the window is resized within a
+ * boundary. When media query listeners are not supported (or disabled with
+ * {@link #setMediaQueryListeners(boolean)}) a single window resize handler is used instead,
+ * throttled with <code>requestAnimationFrame</code>, evaluating each distinct media query once per frame.
+ * <br><br>
+ * In both cases subscribers are only notified when one of their media queries changed.
+ */
+public class ViewPortService {
+
+    /**
+     * Notified when the match state of at least one subscribed media query changed.
+     */
+    public interface ViewPortSubscriber {
+        void onViewPortChange(int width, int height);
+    }
+
+    static class MediaQueryState {
+        final String query;
+        final List<ViewPortSubscriber> subscribers = new ArrayList<>();
+        boolean matches;
+        JavaScriptObject listener;
+
+        MediaQueryState(String query) {
+            this.query = query;
+            this.matches = Window.matchMedia(query);
+        }
+
+        void onChange(boolean matches) {
+            if (matches != this.matches) {
+                this.matches = matches;
+                pendingSubscribers.addAll(subscribers);
+                scheduleNotification();
+            }
+        }
+    }
+
+    private static final Map<String, MediaQueryState> states = new LinkedHashMap<>();
+    private static final Set<ViewPortSubscriber> pendingSubscribers = new LinkedHashSet<>();
+    private static boolean mediaQueryListeners = isMediaQueryListenerSupported();
+    private static HandlerRegistration resizeHandler;
+    private static AnimationScheduler.AnimationHandle frame;
+
+    /**
+     * Subscribe to the match state transitions of the given media queries.
+     *
+     * @return registration removing the subscription
+     */
+    public static HandlerRegistration subscribe(ViewPortSubscriber subscriber, Collection<String> queries) {
+        List<String> subscribed = new ArrayList<>();
+        for (String query : queries) {
+            MediaQueryState state = states.get(query);
+            if (state == null) {
+                state = new MediaQueryState(query);
+                states.put(query, state);
+                if (mediaQueryListeners) {
+                    state.listener = addMediaQueryListener(state);
+                }
+            }
+            if (!state.subscribers.contains(subscriber)) {
+                state.subscribers.add(subscriber);
+                subscribed.add(query);
+            }
+        }
+
+        if (!mediaQueryListeners && resizeHandler == null && !states.isEmpty()) {
+            resizeHandler = Window.addResizeHandler(event -> scheduleNotification());
+        }
+        return () -> unsubscribe(subscriber, subscribed);
+    }
+
+    public static HandlerRegistration subscribe(ViewPortSubscriber subscriber, String... queries) {
+        return subscribe(subscriber, Arrays.asList(queries));
+    }
+
+    protected static void unsubscribe(ViewPortSubscriber subscriber, Collection<String> queries) {
+        pendingSubscribers.remove(subscriber);
+        for (String query : queries) {
+            MediaQueryState state = states.get(query);
+            if (state != null) {
+                state.subscribers.remove(subscriber);
+                if (state.subscribers.isEmpty()) {
+                    removeMediaQueryListener(state);
+                    states.remove(query);
+                }
+            }
+        }
+
+        if (states.isEmpty()) {
+            removeResizeHandler();
+            if (frame != null) {
+                frame.cancel();
+                frame = null;
+            }
+        }
+    }
+
+    /**
+     * Check whether the media query matches, using the last known state
+     * when the query is subscribed.
+     */
+    public static boolean matches(String query) {
+        MediaQueryState state = states.get(query);
+        return state != null ? state.matches : Window.matchMedia(query);
+    }
+
+    /**
+     * Use a shared <code>matchMedia</code> listener per media query (the default when supported)
+     * or fall back to polling the media queries on window resize.
+     */
+    public static void setMediaQueryListeners(boolean mediaQueryListeners) {
+        mediaQueryListeners = mediaQueryListeners && isMediaQueryListenerSupported();
+        if (mediaQueryListeners == ViewPortService.mediaQueryListeners) {
+            return;
+        }
+        ViewPortService.mediaQueryListeners = mediaQueryListeners;
+
+        for (MediaQueryState state : states.values()) {
+            if (mediaQueryListeners) {
+                state.listener = addMediaQueryListener(state);
+            } else {
+                removeMediaQueryListener(state);
+            }
+        }
+
+        if (mediaQueryListeners) {
+            removeResizeHandler();
+        } else if (!states.isEmpty()) {
+            resizeHandler = Window.addResizeHandler(event -> scheduleNotification());
+        }
+    }
+
+    public static boolean isMediaQueryListeners() {
+        return mediaQueryListeners;
+    }
+
+    protected static void removeResizeHandler() {
+        if (resizeHandler != null) {
+            resizeHandler.removeHandler();
+            resizeHandler = null;
+        }
+    }
+
+    protected static void scheduleNotification() {
+        if (frame == null) {
+            frame = AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+                frame = null;
+                if (!mediaQueryListeners) {
+                    evaluate();
+                }
+                notifySubscribers();
+            });
+        }
+    }
+
+    /**
+     * Evaluate every distinct media query once, collecting the subscribers
+     * of the queries whose match state changed.
+     */
+    protected static void evaluate() {
+        for (MediaQueryState state : states.values()) {
+            boolean matches = Window.matchMedia(state.query);
+            if (matches != state.matches) {
+                state.matches = matches;
+                pendingSubscribers.addAll(state.subscribers);
+            }
+        }
+    }
+
+    protected static void notifySubscribers() {
+        if (!pendingSubscribers.isEmpty()) {
+            List<ViewPortSubscriber> subscribers = new ArrayList<>(pendingSubscribers);
+            pendingSubscribers.clear();
+
+            int width = com.google.gwt.user.client.Window.getClientWidth();
+            int height = com.google.gwt.user.client.Window.getClientHeight();
+            for (ViewPortSubscriber subscriber : subscribers) {
+                subscriber.onViewPortChange(width, height);
+            }
+        }
+    }
+
+    public static int getQueryCount() {
+        return states.size();
+    }
+
+    protected static void removeMediaQueryListener(MediaQueryState state) {
+        if (state.listener != null) {
+            removeMediaQueryListener(state.listener);
+            state.listener = null;
+        }
+    }
+
+    protected static native boolean isMediaQueryListenerSupported() /*-{
+        return !!($wnd.matchMedia && $wnd.matchMedia('all').addListener);
+    }-*/;
+
+    private static native JavaScriptObject addMediaQueryListener(MediaQueryState state) /*-{
+        var mediaQueryList = $wnd.matchMedia(state.@gwt.material.design.client.base.viewport.ViewPortService.MediaQueryState::query);
+        var listener = $entry(function (e) {
+            state.@gwt.material.design.client.base.viewport.ViewPortService.MediaQueryState::onChange(Z)(e.matches);
+        });
+        mediaQueryList.addListener(listener);
+        return {mediaQueryList: mediaQueryList, listener: listener};
+    }-*/;
+
+    private static native void removeMediaQueryListener(JavaScriptObject listener) /*-{
+        listener.mediaQueryList.removeListener(listener.listener);
+    }-*/;
+}
@@ -150,4 +150,7 @@ public interface CssName {
     String ASYNC = "async";
     String LOADING = "loading";
     String BROWSER_DEFAULT = "browser-default";
+    String SELECT_WRAPPER = "select-wrapper";
+    String SELECT_DROPDOWN = "select-dropdown";
+    String INITIALIZED = "initialized";
 }
@@ -22,6 +22,7 @@ package gwt.material.design.client.pwa;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
+import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.JsLoader;
 import gwt.material.design.client.js.Navigator;
 import gwt.material.design.client.pwa.base.PwaFeature;
@@ -61,6 +62,9 @@ public class PwaManager implements JsLoader {
 
     @Override
     public void load() {
+        // Listen to the install prompt as early as possible
+        MaterialDesignBase.requireJs(MaterialDesignBase.APP_INSTALLER);
+
         loadFeature(getServiceWorkerManager());
         loadFeature(getBrowserThemeManager());
         loadFeature(getWebManifestManager());
@@ -132,6 +136,7 @@ public class PwaManager implements JsLoader {
      */
     public void installApp(Functions.Func callback) {
         if (isPwaSupported()) {
+            MaterialDesignBase.requireJs(MaterialDesignBase.APP_INSTALLER);
             appInstaller = new AppInstaller(callback);
             appInstaller.prompt();
         }
@@ -21,6 +21,7 @@ package gwt.material.design.client.theme;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public abstract class Theme extends HashMap<String, WidgetTheme> implements Comparable<Theme> {
@@ -43,6 +44,32 @@ public abstract class Theme extends HashMap<String, WidgetTheme> implements Comp
         return 0;
     }
 
+    // Changing the widget themes invalidates the themes resolved by the ThemeManager
+
+    @Override
+    public WidgetTheme put(String key, WidgetTheme value) {
+        ThemeManager.invalidateCache();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends WidgetTheme> m) {
+        ThemeManager.invalidateCache();
+        super.putAll(m);
+    }
+
+    @Override
+    public WidgetTheme remove(Object key) {
+        ThemeManager.invalidateCache();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        ThemeManager.invalidateCache();
+        super.clear();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
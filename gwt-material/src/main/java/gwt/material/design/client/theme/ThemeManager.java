@@ -23,9 +23,12 @@ import com.google.gwt.core.client.GWT;
 import gwt.material.design.client.base.MaterialWidget;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
@@ -35,11 +38,16 @@ ThemeManager {
 
     private static SortedSet<Theme> themes;
 
-    private static Map<Class, List<WidgetTheme>> themeCache = new HashMap<>();
+    // Resolved widget themes by widget class and the style names matching a theme selector
+    private static Map<Class, Map<String, List<WidgetTheme>>> themeCache = new HashMap<>();
+
+    // The selectors of all the registered themes, null until resolved
+    private static Set<String> themeSelectors;
 
     public static void addTheme(Theme theme) {
         if (!getThemes().contains(theme)) {
             getThemes().add(theme);
+            invalidateCache();
 
             for(WidgetTheme widgetTheme : theme.load()) {
                 widgetTheme.setTheme(theme);
@@ -51,6 +59,11 @@ ThemeManager {
         }
     }
 
+    public static boolean removeTheme(Theme theme) {
+        invalidateCache();
+        return getThemes().remove(theme);
+    }
+
     public static SortedSet<Theme> getThemes() {
         if (themes == null) {
             themes = new TreeSet<>();
@@ -59,42 +72,89 @@ ThemeManager {
     }
 
     public static List<WidgetTheme> getWidgetThemes(MaterialWidget object) {
-        return getWidgetThemes(object, object.getClass(), new ArrayList<>());
+        if (themes == null || themes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String selectorKey = getSelectorKey(object.getStyleName());
+        Map<String, List<WidgetTheme>> classThemes = themeCache.computeIfAbsent(object.getClass(), k -> new HashMap<>());
+        List<WidgetTheme> widgetThemes = classThemes.get(selectorKey);
+        if (widgetThemes == null) {
+            widgetThemes = getWidgetThemes(object, object.getClass(), new ArrayList<>());
+            classThemes.put(selectorKey, widgetThemes);
+        }
+        return widgetThemes;
+    }
+
+    /**
+     * Only the style names matching a theme selector are part of the cache key, other
+     * (dynamic) style names resolve to the same themes.
+     */
+    protected static String getSelectorKey(String styleName) {
+        if (themeSelectors == null) {
+            themeSelectors = new HashSet<>();
+            for (Theme theme : getThemes()) {
+                themeSelectors.addAll(theme.keySet());
+            }
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (String style : styleName.split(" ")) {
+            if (themeSelectors.contains(style)) {
+                key.append(style).append(' ');
+            }
+        }
+        return key.toString();
     }
 
+    /**
+     * Resolve the widget themes matching the given class, its super types and the
+     * style names of the widget. Prefer {@link #getWidgetThemes(MaterialWidget)} which
+     * caches the result by widget class and style selector.
+     */
     public static List<WidgetTheme> getWidgetThemes(MaterialWidget object, Class clazz, List<WidgetTheme> widgetThemes) {
-        List<WidgetTheme> cachedThemes = themeCache.get(clazz);
-        if (themes != null && cachedThemes == null) {
-            cachedThemes = new ArrayList<>();
-            for(Theme theme : themes) {
-                // Check by widgets class name first
-                WidgetTheme widgetTheme = theme.get(clazz.getName());
-                if (widgetTheme != null) {
-                    cachedThemes.add(widgetTheme);
-                }
+        if (themes == null) {
+            return widgetThemes;
+        }
 
-                // Check by widget class selector
-                for (String styleName : object.getStyleName().split(" ")) {
-                    WidgetTheme styleWidgetTheme = theme.get(styleName);
-                    if (styleWidgetTheme != null) {
-                        cachedThemes.add(styleWidgetTheme);
-                    }
+        // Check by widgets class name first, including the supertypes
+        Class type = clazz;
+        while (type != null && !type.equals(MaterialWidget.class)) {
+            for (Theme theme : themes) {
+                WidgetTheme widgetTheme = theme.get(type.getName());
+                if (widgetTheme != null) {
+                    widgetThemes.add(widgetTheme);
                 }
             }
-            themeCache.put(clazz, cachedThemes);
+            type = type.getSuperclass();
         }
 
-        if (cachedThemes != null) {
-            widgetThemes.addAll(cachedThemes);
+        // Check by widget class selector
+        for (Theme theme : themes) {
+            for (String styleName : object.getStyleName().split(" ")) {
+                WidgetTheme styleWidgetTheme = theme.get(styleName);
+                if (styleWidgetTheme != null && !widgetThemes.contains(styleWidgetTheme)) {
+                    widgetThemes.add(styleWidgetTheme);
+                }
+            }
         }
+        return widgetThemes;
+    }
 
+    /**
+     * Clear the resolved widget themes, called whenever a theme or widget theme changes.
+     */
+    public static void invalidateCache() {
+        themeCache.clear();
+        themeSelectors = null;
+    }
 
-        // check the supertype
-        if (clazz.getSuperclass() != null && !clazz.getSuperclass().equals(MaterialWidget.class)) {
-            return getWidgetThemes(object, clazz.getSuperclass(), widgetThemes);
-        } else {
-            return widgetThemes;
+    static int getCacheSize() {
+        int size = 0;
+        for (Map<String, List<WidgetTheme>> classThemes : themeCache.values()) {
+            size += classThemes.size();
         }
+        return size;
     }
 
     public static List<WidgetTheme> applyLoad(MaterialWidget object) {
@@ -130,5 +190,6 @@ ThemeManager {
 
     public static <T extends MaterialWidget> void addWidgetTheme(Theme theme, WidgetTheme<T> widgetTheme) {
         theme.put(widgetTheme.getClassSelector(), widgetTheme);
+        invalidateCache();
     }
 }
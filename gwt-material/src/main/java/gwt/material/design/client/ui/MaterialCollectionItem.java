@@ -25,6 +25,7 @@ import com.google.gwt.dom.client.Style;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.ui.HasValue;
 import com.google.gwt.user.client.ui.Widget;
+import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.*;
 import gwt.material.design.client.base.helper.UiHelper;
 import gwt.material.design.client.base.mixin.ActiveMixin;
@@ -92,6 +93,7 @@ public class MaterialCollectionItem extends MaterialWidget implements HasDismiss
         });
         registerHandler(handlerRegistration);
 
+        MaterialDesignBase.requireJs(MaterialDesignBase.ANIMATION);
         JsMaterialElement.initDismissableCollection();
     }
 
@@ -22,15 +22,18 @@ package gwt.material.design.client.ui;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.Style;
 import com.google.gwt.event.dom.client.DomEvent;
+import com.google.gwt.event.dom.client.KeyCodes;
 import com.google.gwt.event.logical.shared.*;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.uibinder.client.UiConstructor;
 import com.google.gwt.user.client.DOM;
+import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.ui.HasEnabled;
 import com.google.gwt.user.client.ui.UIObject;
 import com.google.gwt.user.client.ui.Widget;
 import gwt.material.design.client.base.*;
 import gwt.material.design.client.base.helper.DOMHelper;
+import gwt.material.design.client.base.mixin.VirtualScrollMixin;
 import gwt.material.design.client.constants.Alignment;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.js.JsDropdownOptions;
@@ -67,13 +70,20 @@ import static gwt.material.design.client.js.JsMaterialElement.$;
  * @see <a href="https://material.io/guidelines/components/menus.html#">Material Design Specification</a>
  */
 //@formatter:on
-public class MaterialDropDown<T> extends UnorderedList implements JsLoader, HasSelectionHandlers<Widget>, HasValueChangeHandlers<T>, HasInOutDurationTransition {
+public class MaterialDropDown<T> extends UnorderedList implements JsLoader, HasSelectionHandlers<Widget>, HasValueChangeHandlers<T>, HasInOutDurationTransition,
+        HasVirtualScroll {
+
+    private static final String VIRTUAL_OPEN_EVENTS = "click.virtualDropDown focus.virtualDropDown";
 
     private Map<Widget, T> widgetMap = new HashMap<>();
     private String activator;
     private Element activatorElement;
     private List<HandlerRegistration> handlers = new ArrayList<>();
     private JsDropdownOptions options = new JsDropdownOptions();
+    private HandlerRegistration virtualClickHandler;
+    private HandlerRegistration virtualKeyHandler;
+
+    private VirtualScrollMixin<MaterialDropDown<T>, T> virtualScrollMixin;
 
     public MaterialDropDown() {
         setInitialClasses(CssName.DROPDOWN_CONTENT);
@@ -130,6 +140,71 @@ public class MaterialDropDown<T> extends UnorderedList implements JsLoader, HasS
 
         $(activatorElement).dropdown(options);
 
+        if (isVirtualScroll()) {
+            // The keyboard navigation is only listened to while the dropdown is open
+            $(activatorElement).on(VIRTUAL_OPEN_EVENTS, (e, param1) -> {
+                addVirtualKeyHandler();
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Listen to the keyboard navigation over the virtual rows, the handler removes itself
+     * once the dropdown is closed.
+     */
+    protected void addVirtualKeyHandler() {
+        if (virtualKeyHandler == null) {
+            virtualKeyHandler = Event.addNativePreviewHandler(event -> {
+                if (!isOpen()) {
+                    removeVirtualKeyHandler();
+                } else if (event.getTypeInt() == Event.ONKEYDOWN) {
+                    onVirtualKeyDown(event);
+                }
+            });
+        }
+    }
+
+    protected void removeVirtualKeyHandler() {
+        if (virtualKeyHandler != null) {
+            virtualKeyHandler.removeHandler();
+            virtualKeyHandler = null;
+        }
+    }
+
+    protected boolean hasVirtualKeyHandler() {
+        return virtualKeyHandler != null;
+    }
+
+    /**
+     * Check whether the dropdown content is displayed.
+     */
+    public boolean isOpen() {
+        return Style.Display.BLOCK.getCssName().equals(getElement().getStyle().getDisplay());
+    }
+
+    /**
+     * Keyboard navigation over the virtual rows, as these are not all part of the DOM.
+     */
+    protected void onVirtualKeyDown(Event.NativePreviewEvent event) {
+        switch (event.getNativeEvent().getKeyCode()) {
+            case KeyCodes.KEY_DOWN:
+                getVirtualScrollMixin().moveActive(1);
+                event.getNativeEvent().preventDefault();
+                break;
+            case KeyCodes.KEY_UP:
+                getVirtualScrollMixin().moveActive(-1);
+                event.getNativeEvent().preventDefault();
+                break;
+            case KeyCodes.KEY_ENTER:
+                int activeIndex = getVirtualScrollMixin().getActiveIndex();
+                if (activeIndex >= 0) {
+                    selectVirtualItem(activeIndex);
+                    $(activatorElement).trigger("close", true);
+                    event.getNativeEvent().preventDefault();
+                }
+                break;
+        }
     }
 
     @Override
@@ -137,6 +212,8 @@ public class MaterialDropDown<T> extends UnorderedList implements JsLoader, HasS
         for (HandlerRegistration handler : handlers) {
             handler.removeHandler();
         }
+        removeVirtualKeyHandler();
+        $(activatorElement).off(VIRTUAL_OPEN_EVENTS);
 
         // Hook for materialize bug on dropdown for not having closed once detach
         if (getElement() != null && isAttached()) {
@@ -181,6 +258,13 @@ public class MaterialDropDown<T> extends UnorderedList implements JsLoader, HasS
     }
 
     public void setItems(List<T> items, DropdownItemRenderer<T> renderer) {
+        widgetMap.clear();
+        if (isVirtualScroll()) {
+            // Rows are recycled by the mixin, so the dropdown is not cleared
+            getVirtualScrollMixin().setItems(items, (row, item, index) -> renderVirtualRow(row, item, renderer));
+            return;
+        }
+
         clear();
         items.forEach(item -> {
             MaterialLink link;
@@ -195,6 +279,86 @@ public class MaterialDropDown<T> extends UnorderedList implements JsLoader, HasS
         });
     }
 
+    protected void renderVirtualRow(ListItem row, T item, DropdownItemRenderer<T> renderer) {
+        MaterialLink current = row.getWidgetCount() > 0 ? (MaterialLink) row.getWidget(0) : null;
+        MaterialLink link;
+        if (renderer != null) {
+            link = renderer.update(current, item);
+        } else if (current != null) {
+            link = current;
+            link.setText(String.valueOf(item));
+        } else {
+            link = new MaterialLink(String.valueOf(item));
+        }
+
+        if (link != current) {
+            if (current != null) {
+                widgetMap.remove(current);
+                current.removeFromParent();
+            }
+            row.add(link);
+        }
+        widgetMap.put(link, item);
+    }
+
+    /**
+     * Fire the selection and value change events for the virtual row at the given index.
+     */
+    protected void selectVirtualItem(int index) {
+        VirtualScrollMixin<MaterialDropDown<T>, T> mixin = getVirtualScrollMixin();
+        ListItem row = mixin.getRow(index);
+        if (row != null && row.getWidgetCount() > 0) {
+            SelectionEvent.fire(this, row.getWidget(0));
+        }
+        ValueChangeEvent.fire(this, mixin.getItem(index));
+    }
+
+    @Override
+    public void setVirtualScroll(boolean virtualScroll) {
+        if (virtualScroll != isVirtualScroll()) {
+            clear();
+            widgetMap.clear();
+        }
+        getVirtualScrollMixin().setVirtualScroll(virtualScroll);
+
+        if (virtualScroll && virtualClickHandler == null) {
+            virtualClickHandler = addClickHandler(event -> {
+                int index = getVirtualScrollMixin().getIndexOf(Element.as(event.getNativeEvent().getEventTarget()));
+                if (index >= 0) {
+                    selectVirtualItem(index);
+                }
+            });
+        } else if (!virtualScroll && virtualClickHandler != null) {
+            virtualClickHandler.removeHandler();
+            virtualClickHandler = null;
+        }
+    }
+
+    @Override
+    public boolean isVirtualScroll() {
+        return virtualScrollMixin != null && virtualScrollMixin.isVirtualScroll();
+    }
+
+    @Override
+    public void setRowHeight(int rowHeight) {
+        getVirtualScrollMixin().setRowHeight(rowHeight);
+    }
+
+    @Override
+    public int getRowHeight() {
+        return getVirtualScrollMixin().getRowHeight();
+    }
+
+    @Override
+    public void setOverscan(int overscan) {
+        getVirtualScrollMixin().setOverscan(overscan);
+    }
+
+    @Override
+    public int getOverscan() {
+        return getVirtualScrollMixin().getOverscan();
+    }
+
     @Override
     public void setInDuration(int durationMillis) {
         options.inDuration = durationMillis;
@@ -307,4 +471,11 @@ public class MaterialDropDown<T> extends UnorderedList implements JsLoader, HasS
     public HandlerRegistration addValueChangeHandler(ValueChangeHandler<T> handler) {
         return addHandler(handler, ValueChangeEvent.getType());
     }
+
+    public VirtualScrollMixin<MaterialDropDown<T>, T> getVirtualScrollMixin() {
+        if (virtualScrollMixin == null) {
+            virtualScrollMixin = new VirtualScrollMixin<>(this);
+        }
+        return virtualScrollMixin;
+    }
 }
@@ -110,12 +110,36 @@ public class MaterialImage extends MaterialWidget implements HasCaption, HasType
     protected void onLoad() {
         super.onLoad();
 
-        $(".materialboxed").materialbox();
+        initMaterialbox();
+    }
+
+    /**
+     * Initialize the materialbox of this image only, when it is of type {@link ImageType#MATERIALBOXED}
+     * and was not initialized yet.
+     */
+    protected void initMaterialbox() {
+        if (isAttached() && getElement().hasClassName(ImageType.MATERIALBOXED.getCssName())
+                && !isMaterialboxInitialized()) {
+            $(getElement()).materialbox();
+        }
+    }
+
+    public boolean isMaterialboxInitialized() {
+        return getElement().hasClassName(CssName.INITIALIZED);
+    }
+
+    /**
+     * Initialize every pending materialboxed image of the page in a single pass, useful when
+     * a gallery of images was added through plain html.
+     */
+    public static void initMaterialboxes() {
+        $("." + ImageType.MATERIALBOXED.getCssName() + ":not(." + CssName.INITIALIZED + ")").materialbox();
     }
 
     @Override
     public void setType(ImageType type) {
         getTypeMixin().setType(type);
+        initMaterialbox();
     }
 
     @Override
@@ -21,6 +21,8 @@ package gwt.material.design.client.ui;
 
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.InputElement;
+import com.google.gwt.dom.client.Node;
 import com.google.gwt.dom.client.OptionElement;
 import com.google.gwt.dom.client.SelectElement;
 import com.google.gwt.event.dom.client.DomEvent;
@@ -44,6 +46,7 @@ import gwt.material.design.client.base.mixin.StatusTextMixin;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.constants.FieldType;
 import gwt.material.design.client.js.JsMaterialElement;
+import gwt.material.design.client.ui.html.Div;
 import gwt.material.design.client.ui.html.Label;
 import gwt.material.design.jquery.client.api.JQueryElement;
 
@@ -81,7 +84,7 @@ import static gwt.material.design.client.js.JsMaterialElement.$;
 //@formatter:on
 public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements JsLoader, HasPlaceholder,
         HasConstrainedValue<T>, HasReadOnly, HasFieldTypes, IsAsyncWidget<MaterialListValueBox<T>, List<T>>,
-        HasAsyncRenderer<String, T>, HasNativeBrowserStyle {
+        HasAsyncRenderer<String, T>, HasNativeBrowserStyle, HasVirtualScroll {
 
     private final ListBox listBox = new ListBox();
     private final Label label = new Label();
@@ -90,6 +93,12 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     private MaterialLabel errorLabel = new MaterialLabel();
     private AsyncRenderer<String, T> asyncRenderer;
 
+    // Lookup tables for fast value and key access, rebuilt lazily once invalidated.
+    private final Map<T, Integer> valueIndex = new HashMap<>();
+    private final Map<String, Integer> keyIndex = new HashMap<>();
+    private int indexedCount;
+    private boolean indexDirty;
+
     private ReadOnlyMixin<MaterialListValueBox<T>, ListBox> readOnlyMixin;
     private StatusTextMixin<AbstractValueWidget, MaterialLabel> statusTextMixin;
     private FieldTypeMixin<MaterialListValueBox> fieldTypeMixin;
@@ -98,6 +107,11 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
 
     private String emptyPlaceHolder = null;
 
+    private boolean virtualScroll;
+    private Div virtualWrapper;
+    private MaterialWidget virtualInput;
+    private MaterialDropDown<Integer> virtualDropDown;
+
     public MaterialListValueBox() {
         super(Document.get().createDivElement(), CssName.INPUT_FIELD, CssName.LISTBOX_WRAPPER);
 
@@ -124,6 +138,18 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
 
     @Override
     public void load() {
+        if (isVirtualScroll()) {
+            loadVirtualSelect();
+        } else {
+            loadMaterialSelect();
+        }
+
+        if (isAllowBlank()) {
+            addBlankItemIfNeeded();
+        }
+    }
+
+    protected void loadMaterialSelect() {
         JQueryElement listBoxElement = $(listBox.getElement());
         JsMaterialElement.$(listBox.getElement()).material_select(() -> $("input.select-dropdown").trigger("close", true));
         listBoxElement.change((e, param) -> {
@@ -155,9 +181,62 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
 
             return true;
         });
+    }
 
-        if (isAllowBlank()) {
-            addBlankItemIfNeeded();
+    /**
+     * Instead of the 'material select', which creates a row for every option, the values are
+     * displayed by a virtual scrolling {@link MaterialDropDown} rendering only the visible rows.
+     * The rows are the item indexes, as the values may contain duplicates.
+     */
+    protected void loadVirtualSelect() {
+        MaterialDropDown<Integer> dropDown = getVirtualDropDown();
+        if (virtualWrapper.getParent() != this) {
+            insert(virtualWrapper, 0);
+        }
+
+        dropDown.setItems(new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return listBox.getItemCount();
+            }
+        }, new DropdownItemRenderer<Integer>() {
+            @Override
+            public MaterialLink render(Integer index) {
+                return new MaterialLink(listBox.getItemText(index));
+            }
+
+            @Override
+            public MaterialLink update(MaterialLink link, Integer index) {
+                if (link == null) {
+                    return render(index);
+                }
+                link.setText(listBox.getItemText(index));
+                return link;
+            }
+        });
+
+        int selectedIndex = getSelectedIndexInternal();
+        if (selectedIndex >= 0) {
+            dropDown.getVirtualScrollMixin().setActiveIndex(selectedIndex);
+        }
+
+        InputElement input = virtualInput.getElement().cast();
+        String selectedText = getSelectedItemText();
+        input.setValue(selectedText != null ? selectedText : "");
+        input.setDisabled(!listBox.isEnabled());
+    }
+
+    protected void selectVirtualIndex(int index) {
+        if (index >= 0 && index < listBox.getItemCount()) {
+            T before = getValue();
+            listBox.setSelectedIndex(index);
+            virtualInput.getElement().<InputElement>cast().setValue(listBox.getItemText(index));
+            ValueChangeEvent.fireIfNotEqual(this, before, getValue());
         }
     }
 
@@ -215,6 +294,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     public void addItem(T value, Direction dir, boolean reload) {
         values.add(value);
         listBox.addItem(keyFactory.generateKey(value), dir);
+        updateIndex(values.size() - 1);
 
         if (reload) {
             reload();
@@ -243,12 +323,59 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     public void addItem(T value, boolean reload) {
         values.add(value);
         listBox.addItem(keyFactory.generateKey(value));
+        updateIndex(values.size() - 1);
 
         if (reload) {
             reload();
         }
     }
 
+    /**
+     * Adds a collection of items to the list box at once. All options are
+     * built in a single document fragment and the 'material select' is
+     * reloaded only once afterwards.
+     *
+     * @param values the items' values, to be submitted if it is part of a
+     *               {@link FormPanel}
+     */
+    public void addItems(Collection<T> values) {
+        addItems(values, null);
+    }
+
+    /**
+     * Adds a collection of items to the list box at once. All options are
+     * built in a single document fragment and the 'material select' is
+     * reloaded only once afterwards.
+     *
+     * @param values   the items' values, to be submitted if it is part of a
+     *                 {@link FormPanel}
+     * @param renderer renders the text of each item, if <code>null</code>
+     *                 the generated key is used as text.
+     */
+    public void addItems(Collection<T> values, AsyncRenderer<String, T> renderer) {
+        addItemsInternal(values, renderer);
+        reload();
+    }
+
+    protected void addItemsInternal(Collection<T> values, AsyncRenderer<String, T> renderer) {
+        Document document = Document.get();
+        Node fragment = createDocumentFragment();
+        for (T value : values) {
+            String key = keyFactory.generateKey(value);
+            OptionElement option = document.createOptionElement();
+            option.setValue(key);
+            option.setText(renderer != null ? renderer.render(value) : key);
+            fragment.appendChild(option);
+        }
+        getSelectElement().appendChild(fragment);
+
+        int start = this.values.size();
+        this.values.addAll(values);
+        for (int i = start; i < this.values.size(); i++) {
+            updateIndex(i);
+        }
+    }
+
     /**
      * Adds an item to the list box, specifying an initial value for the item.
      *
@@ -271,6 +398,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     public void addItem(T value, String text, boolean reload) {
         values.add(value);
         listBox.addItem(text, keyFactory.generateKey(value));
+        updateIndex(values.size() - 1);
 
         if (reload) {
             reload();
@@ -303,6 +431,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     public void addItem(T value, Direction dir, String text, boolean reload) {
         values.add(value);
         listBox.addItem(text, dir, keyFactory.generateKey(value));
+        updateIndex(values.size() - 1);
 
         if (reload) {
             reload();
@@ -338,6 +467,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     protected void insertItemInternal(T value, int index, boolean reload) {
         values.add(index, value);
         listBox.insertItem(keyFactory.generateKey(value), index);
+        updateIndex(index);
 
         if (reload) {
             reload();
@@ -377,6 +507,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     protected void insertItemInternal(T value, Direction dir, int index, boolean reload) {
         values.add(index, value);
         listBox.insertItem(keyFactory.generateKey(value), dir, index);
+        updateIndex(index);
 
         if (reload) {
             reload();
@@ -416,6 +547,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     protected void insertItemInternal(T value, String text, int index, boolean reload) {
         values.add(index, value);
         listBox.insertItem(text, keyFactory.generateKey(value), index);
+        updateIndex(index);
 
         if (reload) {
             reload();
@@ -463,6 +595,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     protected void insertItemInternal(T value, Direction dir, String text, int index, boolean reload) {
         values.add(index, value);
         listBox.insertItem(keyFactory.generateKey(value), dir, text, index);
+        updateIndex(index);
 
         if (reload) {
             reload();
@@ -494,6 +627,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     protected void removeItemInternal(int index, boolean reload) {
         values.remove(index);
         listBox.removeItem(index);
+        invalidateIndex();
 
         if (reload) {
             reload();
@@ -539,16 +673,23 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
      */
     @Override
     public void clear() {
+        clearInternal(true);
+    }
+
+    protected void clearInternal(boolean reload) {
         values.clear();
         listBox.clear();
+        clearIndex();
 
         clearStatusText();
         if (emptyPlaceHolder != null) {
             insertEmptyPlaceHolder(emptyPlaceHolder);
         }
-        reload();
+        if (reload) {
+            reload();
+        }
         if (isAllowBlank()) {
-            addBlankItemIfNeeded();
+            addBlankItemIfNeeded(reload);
         }
     }
 
@@ -570,12 +711,21 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
         return listBox.getElement().cast();
     }
 
+    protected native Node createDocumentFragment() /*-{
+        return $doc.createDocumentFragment();
+    }-*/;
+
     /**
-     * Sets whether this list allows multiple selections.
+     * Sets whether this list allows multiple selections, which is not supported
+     * in {@link #setVirtualScroll(boolean) virtual scroll} mode.
      *
      * @param multipleSelect <code>true</code> to allow multiple selections
+     * @throws IllegalStateException if multiple selections are enabled in virtual scroll mode
      */
     public void setMultipleSelect(boolean multipleSelect) {
+        if (multipleSelect && isVirtualScroll()) {
+            throw new IllegalStateException("Multiple selections are not supported in virtual scroll mode.");
+        }
         listBox.setMultipleSelect(multipleSelect);
     }
 
@@ -616,11 +766,8 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
 
     @Override
     public void setAcceptableValues(Collection<T> values) {
-        clear();
-        if (isAllowBlank()) {
-            addBlankItemIfNeeded();
-        }
-        values.forEach(this::addItem);
+        clearInternal(false);
+        addItems(values);
     }
 
     @Override
@@ -646,7 +793,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
                 ValueChangeEvent.fire(this, null);
             }
         } else {
-            int index = values.indexOf(value);
+            int index = getIndexInternal(value);
             if (index < 0 && value instanceof String) {
                 index = getIndexByString((String) value);
             }
@@ -662,25 +809,15 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
         }
     }
 
-    // TODO: Optimize performance (maybe use a map)
     public T getValueByString(String key) {
-        for (T value : values) {
-            if (keyFactory.generateKey(value).equals(key)) {
-                return value;
-            }
-        }
-        return null;
+        int index = getIndexByString(key);
+        return index >= 0 ? values.get(index) : null;
     }
 
-    // TODO: Optimize performance (maybe use a map)
     public int getIndexByString(String key) {
-        int index = -1;
-        for (T value : values) {
-            if (keyFactory.generateKey(value).equals(key)) {
-                index = values.indexOf(value);
-            }
-        }
-        return index;
+        ensureIndex();
+        Integer index = keyIndex.get(key);
+        return index != null ? index : -1;
     }
 
     /**
@@ -931,6 +1068,51 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
      */
     public void setKeyFactory(KeyFactory<T, String> keyFactory) {
         this.keyFactory = keyFactory;
+        invalidateIndex();
+    }
+
+    /**
+     * Display the values with a virtual scrolling {@link MaterialDropDown} instead of the
+     * 'material select'. Only single selections are supported in this mode.
+     *
+     * @throws IllegalStateException if virtual scroll is enabled on a multiple selection list
+     */
+    @Override
+    public void setVirtualScroll(boolean virtualScroll) {
+        if (virtualScroll && isMultipleSelect()) {
+            throw new IllegalStateException("Virtual scroll is not supported with multiple selections.");
+        }
+        this.virtualScroll = virtualScroll;
+
+        if (!virtualScroll && virtualWrapper != null) {
+            virtualWrapper.removeFromParent();
+        }
+        reload();
+    }
+
+    @Override
+    public boolean isVirtualScroll() {
+        return virtualScroll;
+    }
+
+    @Override
+    public void setRowHeight(int rowHeight) {
+        getVirtualDropDown().setRowHeight(rowHeight);
+    }
+
+    @Override
+    public int getRowHeight() {
+        return getVirtualDropDown().getRowHeight();
+    }
+
+    @Override
+    public void setOverscan(int overscan) {
+        getVirtualDropDown().setOverscan(overscan);
+    }
+
+    @Override
+    public int getOverscan() {
+        return getVirtualDropDown().getOverscan();
     }
 
     @Override
@@ -968,6 +1150,10 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     }
 
     protected void addBlankItemIfNeeded() {
+        addBlankItemIfNeeded(true);
+    }
+
+    protected void addBlankItemIfNeeded(boolean reload) {
         int idx = getIndex(null);
         if (idx < 0) {
             ArrayList<T> previous = new ArrayList<>(values);
@@ -975,7 +1161,12 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
             values.add(null);
             values.addAll(previous);
             listBox.insertItem(AllowBlankKeyFactory.BLANK_VALUE_TEXT, 0);
-            setSelectedIndexInternal(-1);
+            invalidateIndex();
+            if (reload) {
+                setSelectedIndexInternal(-1);
+            } else {
+                listBox.setSelectedIndex(-1);
+            }
         }
     }
 
@@ -1058,15 +1249,77 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
      * @return the index of the value
      */
     public int getIndex(T value) {
-        int count = getItemCount() - getIndexOffset();
-        for (int i = 0; i < count; i++) {
-            if (Objects.equals(getValue(i), value)) {
-                return i;
+        int offset = getIndexOffset();
+        int index = getIndexInternal(value);
+        if (index >= offset) {
+            return index - offset;
+        } else if (index >= 0) {
+            // The value is shadowed by a special item (e.g. the empty placeholder)
+            int count = getItemCount() - offset;
+            for (int i = 0; i < count; i++) {
+                if (Objects.equals(getValue(i), value)) {
+                    return i;
+                }
             }
         }
         return -1;
     }
 
+    /**
+     * Gets the raw index of the specified value, not taking the index offset into account.
+     *
+     * @param value the value of the item to be found
+     * @return the index of the first matching value or <code>-1</code> if not found
+     */
+    protected int getIndexInternal(T value) {
+        ensureIndex();
+        Integer index = valueIndex.get(value);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Update the value and key lookup tables after a value was put at the given index.
+     * Appending values keeps the tables in sync, any other position invalidates them.
+     */
+    protected void updateIndex(int index) {
+        if (!indexDirty && index == indexedCount && index < values.size()) {
+            indexValue(index);
+        } else {
+            invalidateIndex();
+        }
+    }
+
+    /**
+     * Mark the value and key lookup tables as stale, they will be rebuilt on the next lookup.
+     */
+    protected void invalidateIndex() {
+        indexDirty = true;
+    }
+
+    protected void clearIndex() {
+        valueIndex.clear();
+        keyIndex.clear();
+        indexedCount = 0;
+        indexDirty = false;
+    }
+
+    protected void ensureIndex() {
+        // Values may also be modified directly by subclasses, so check the size as well
+        if (indexDirty || indexedCount != values.size()) {
+            clearIndex();
+            for (int i = 0; i < values.size(); i++) {
+                indexValue(i);
+            }
+        }
+    }
+
+    private void indexValue(int index) {
+        T value = values.get(index);
+        valueIndex.putIfAbsent(value, index);
+        keyIndex.putIfAbsent(keyFactory.generateKey(value), index);
+        indexedCount++;
+    }
+
     /**
      * Checks whether {@link #emptyPlaceHolder} is added/present in both {@link #listBox} and {@link #values} at 0 index.
      *
@@ -1080,6 +1333,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
     protected void insertEmptyPlaceHolder(String emptyPlaceHolder) {
         listBox.insertItem(emptyPlaceHolder, 0);
         values.add(0, null);
+        invalidateIndex();
         getOptionElement(0).setDisabled(true);
     }
 
@@ -1087,6 +1341,7 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
         // indeed the first item/value is emptyPlaceHolder
         listBox.removeItem(0);
         values.remove(0);
+        invalidateIndex();
 
         OptionElement currentPlaceholder = getOptionElement(0);
         if (currentPlaceholder != null) {
@@ -1198,6 +1453,30 @@ public class MaterialListValueBox<T> extends AbstractValueWidget<T> implements J
         return asyncWidgetMixin;
     }
 
+    protected MaterialDropDown<Integer> getVirtualDropDown() {
+        if (virtualDropDown == null) {
+            virtualInput = new MaterialWidget(Document.get().createTextInputElement(), CssName.SELECT_DROPDOWN);
+            virtualInput.getElement().setAttribute("readonly", "true");
+            virtualInput.addFocusHandler(event -> {
+                DomEvent.fireNativeEvent(Document.get().createFocusEvent(), this);
+
+                if (isAsynchronous() && !isLoaded()) {
+                    load(getAsyncCallback());
+                }
+            });
+            virtualInput.addBlurHandler(event -> DomEvent.fireNativeEvent(Document.get().createBlurEvent(), this));
+
+            virtualDropDown = new MaterialDropDown<>(virtualInput);
+            virtualDropDown.setVirtualScroll(true);
+            virtualDropDown.addValueChangeHandler(event -> selectVirtualIndex(event.getValue()));
+
+            virtualWrapper = new Div(CssName.SELECT_WRAPPER);
+            virtualWrapper.add(virtualInput);
+            virtualWrapper.add(virtualDropDown);
+        }
+        return virtualDropDown;
+    }
+
     protected NativeBrowserStyleMixin<MaterialListValueBox> getNativeBrowserStyleMixin() {
         if (nativeBrowserStyleMixin == null) {
             nativeBrowserStyleMixin = new NativeBrowserStyleMixin<>(this, listBox);
@@ -19,12 +19,12 @@
  */
 package gwt.material.design.client.ui;
 
-import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.client.Event;
 import gwt.material.design.client.base.MaterialWidget;
+import gwt.material.design.client.base.helper.MessageTemplate;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.constants.IconPosition;
 import gwt.material.design.client.constants.IconType;
@@ -32,6 +32,9 @@ import gwt.material.design.client.constants.WavesType;
 import gwt.material.design.client.events.PageSelectionEvent;
 import gwt.material.design.client.ui.html.ListItem;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static gwt.material.design.client.events.PageSelectionEvent.PageSelectionHandler;
 import static gwt.material.design.client.events.PageSelectionEvent.TYPE;
 
@@ -61,6 +64,7 @@ public class MaterialPager extends MaterialWidget {
     private PagerListItem linkLeft;
     private PagerListItem linkRight;
     private MaterialChip indicator;
+    private List<PagerListItem> pageItems = new ArrayList<>();
 
     public MaterialPager() {
         super(Document.get().createULElement(), CssName.PAGINATION);
@@ -89,9 +93,17 @@ public class MaterialPager extends MaterialWidget {
     protected void load() {
         if (!calcInitialized) {
             calcTotalPages = total / pageSize + (((double) total % (double) pageSize) > 0 ? 1 : 0);
+            calcShowingPageFrom = 0;
+            calcShowingPageTo = 0;
 
             add(getOrCreateLiElementLeft());
-            moveNextPagesRange();
+            // A fixed pool of page links, relabeled whenever the range moves
+            pageItems.clear();
+            for (int i = 1; i <= Math.min(maxPageLinksShown, calcTotalPages); i++) {
+                PagerListItem pageItem = createLiElementForPage(i);
+                pageItems.add(pageItem);
+                add(pageItem);
+            }
             add(getOrCreateLiElementRight());
             if (enableIndicator) {
                 add(createLiElementIndicator());
@@ -105,46 +117,68 @@ public class MaterialPager extends MaterialWidget {
     protected void moveNextPagesRange() {
         calcShowingPageFrom = currentPage;
         calcShowingPageTo = Math.min(currentPage + maxPageLinksShown - 1, calcTotalPages);
-        createPageNumberLinks();
+        updatePageNumberLinks();
     }
 
     protected void movePreviousPagesRange() {
-        calcShowingPageFrom = currentPage - maxPageLinksShown + 1;
+        calcShowingPageFrom = Math.max(currentPage - maxPageLinksShown + 1, 1);
         calcShowingPageTo = currentPage;
-        createPageNumberLinks();
+        updatePageNumberLinks();
     }
 
-    protected void createPageNumberLinks() {
-        for (int i = 0; i < getWidgetCount(); i++) {
-            final PagerListItem widget = (PagerListItem) getWidget(i);
-            if (!widget.isFixed()) {
-                Scheduler.get().scheduleDeferred(widget::removeFromParent);
+    /**
+     * Relabel the pooled page links with the pages of the showing range,
+     * hiding the links that are not needed.
+     */
+    protected void updatePageNumberLinks() {
+        for (int i = 0; i < pageItems.size(); i++) {
+            PagerListItem pageItem = pageItems.get(i);
+            int page = calcShowingPageFrom + i;
+            if (page <= calcShowingPageTo) {
+                pageItem.setPage(page);
+                pageItem.setVisible(true);
+            } else {
+                pageItem.setVisible(false);
             }
         }
-        int insertionIndex = 1;
-        for (int i = calcShowingPageFrom; i <= calcShowingPageTo; i++) {
-            final PagerListItem liElementForPage = createLiElementForPage(i);
-
-            Scheduler.get().scheduleDeferred(new InsertElementAtPositionCommand(insertionIndex++) {
-                @Override
-                public void execute() {
-                    insert(liElementForPage, insertionIndex);
+    }
+
+    /**
+     * Update the active page link, the navigation links and the indicator
+     * to reflect the current page.
+     */
+    protected void updatePageSelection() {
+        for (PagerListItem pageItem : pageItems) {
+            pageItem.setActive(pageItem.getPage() == currentPage);
+        }
+        linkLeft.setEnabled(currentPage > 1);
+        linkRight.setEnabled(currentPage < calcTotalPages);
+
+        if (indicator != null) {
+            indicator.setText(MessageTemplate.compile(indicatorTemplate).format(name -> {
+                switch (name) {
+                    case "page":
+                        return currentPage;
+                    case "total":
+                        return calcTotalPages;
+                    default:
+                        return null;
                 }
-            });
+            }));
         }
     }
 
     protected PagerListItem createLiElementForPage(final int page) {
         final PagerListItem pageLiElement = new PagerListItem();
         pageLiElement.setFixed(false);
-        pageLiElement.add(createLinkPage(page));
+        pageLiElement.setLink(createLinkPage(page));
+        pageLiElement.setPage(page);
 
-        registerHandler(addPageSelectionHandler(event -> pageLiElement.setActive(event.getPageTo() == page)));
-        registerHandler(pageLiElement.addHandler(event -> {
-            onPageSelection(page);
+        pageLiElement.addHandler(event -> {
+            onPageSelection(pageLiElement.getPage());
             event.preventDefault();
             event.stopPropagation();
-        }, ClickEvent.getType()));
+        }, ClickEvent.getType());
 
         return pageLiElement;
     }
@@ -152,30 +186,28 @@ public class MaterialPager extends MaterialWidget {
     protected PagerListItem getOrCreateLiElementLeft() {
         linkLeft = new PagerListItem();
         linkLeft.setFixed(true);
-        registerHandler(linkLeft.addHandler(event -> {
+        linkLeft.addHandler(event -> {
             if (linkLeft.isEnabled()) {
                 onPageSelection(currentPage - 1);
             }
             event.preventDefault();
             event.stopPropagation();
-        }, ClickEvent.getType()));
+        }, ClickEvent.getType());
         linkLeft.add(createLinkLeft());
-        registerHandler(addPageSelectionHandler(event -> MaterialPager.this.linkLeft.setEnabled(event.getPageTo() > 1)));
         return linkLeft;
     }
 
     protected PagerListItem getOrCreateLiElementRight() {
         linkRight = new PagerListItem();
         linkRight.setFixed(true);
-        registerHandler(linkRight.addHandler(event -> {
+        linkRight.addHandler(event -> {
             if (linkRight.isEnabled()) {
                 onPageSelection(currentPage + 1);
             }
             event.stopPropagation();
             event.preventDefault();
-        }, ClickEvent.getType()));
+        }, ClickEvent.getType());
         linkRight.add(createLinkRight());
-        registerHandler(addPageSelectionHandler(event -> MaterialPager.this.linkRight.setEnabled(event.getPageTo() < calcTotalPages)));
         return linkRight;
     }
 
@@ -189,10 +221,6 @@ public class MaterialPager extends MaterialWidget {
     protected MaterialChip getOrCreateIndicator() {
         indicator = new MaterialChip();
         indicator.getElement().getStyle().setBackgroundColor("inherit");
-        registerHandler(addPageSelectionHandler(event -> indicator.setText(indicatorTemplate
-                .replaceAll("\\{page\\}", String.valueOf(event.getPageTo()))
-                .replaceAll("\\{total\\}", String.valueOf(event.getTotalPage()))
-        )));
         return indicator;
     }
 
@@ -221,6 +249,7 @@ public class MaterialPager extends MaterialWidget {
         if (currentPage < calcShowingPageFrom) {
             movePreviousPagesRange();
         }
+        updatePageSelection();
 
         PageSelectionEvent event = new PageSelectionEvent();
         event.setPageFrom(currentPage);
@@ -252,6 +281,8 @@ public class MaterialPager extends MaterialWidget {
         currentPage = 1;
         if (calcInitialized && needToClear) {
             clear();
+            indicator = null;
+            calcInitialized = false;
             load();
         }
     }
@@ -300,17 +331,11 @@ public class MaterialPager extends MaterialWidget {
         this.indicatorTemplate = indicatorTemplate;
     }
 
-    static abstract class InsertElementAtPositionCommand implements Scheduler.ScheduledCommand {
-        protected int insertionIndex;
-
-        InsertElementAtPositionCommand(int insertionIndex) {
-            this.insertionIndex = insertionIndex;
-        }
-    }
-
     static class PagerListItem extends ListItem {
         private boolean fixed;
         private boolean enabled;
+        private int page;
+        private MaterialLink link;
 
         public PagerListItem() {
             this(true);
@@ -323,6 +348,26 @@ public class MaterialPager extends MaterialWidget {
             }
         }
 
+        public int getPage() {
+            return page;
+        }
+
+        public void setPage(int page) {
+            this.page = page;
+            if (link != null) {
+                link.setText(String.valueOf(page));
+            }
+        }
+
+        public MaterialLink getLink() {
+            return link;
+        }
+
+        public void setLink(MaterialLink link) {
+            this.link = link;
+            add(link);
+        }
+
         public boolean isFixed() {
             return fixed;
         }
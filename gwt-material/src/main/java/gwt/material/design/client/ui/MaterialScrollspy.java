@@ -19,14 +19,17 @@
  */
 package gwt.material.design.client.ui;
 
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NodeList;
 import gwt.material.design.client.base.JsLoader;
 import gwt.material.design.client.base.MaterialWidget;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.ui.html.ListItem;
 import gwt.material.design.client.ui.html.UnorderedList;
 
-import static gwt.material.design.client.js.JsMaterialElement.$;
-
 //@formatter:off
 
 /**
@@ -74,6 +77,9 @@ import static gwt.material.design.client.js.JsMaterialElement.$;
 //@formatter:on
 public class MaterialScrollspy extends UnorderedList implements JsLoader {
 
+    protected static final String INITIALIZED_ATTRIBUTE = "data-scrollspy-initialized";
+    protected static final String LINK_ATTRIBUTE = "data-scrollspy-link";
+
     public MaterialScrollspy() {
         super(CssName.SECTION, CssName.TABLE_OF_CONTENTS);
     }
@@ -95,9 +101,86 @@ public class MaterialScrollspy extends UnorderedList implements JsLoader {
     @Override
     public void load() {
         clearActiveState();
-        $(".scrollspy").scrollSpy();
+
+        JsArray<Element> sections = JavaScriptObject.createArray().cast();
+        NodeList<Element> links = getElement().getElementsByTagName("a");
+        for (int i = 0; i < links.getLength(); i++) {
+            String href = links.getItem(i).getAttribute("href");
+            if (href != null && href.startsWith("#") && href.length() > 1) {
+                Element section = Document.get().getElementById(href.substring(1));
+                if (section != null && isPending(section)) {
+                    sections.push(section);
+                } else if (section != null && isInitialized(section) && !links.getItem(i).hasAttribute(LINK_ATTRIBUTE)) {
+                    // Materialize only binds the links present when the section is initialized
+                    bindLink(links.getItem(i));
+                }
+            }
+        }
+
+        if (sections.length() > 0) {
+            initSections(sections);
+        }
+    }
+
+    /**
+     * Initialize every pending scrollspy section of the page in a single pass.
+     */
+    public static void initAll() {
+        NodeList<Element> pending = querySelectorAll("." + CssName.SCROLLSPY + ":not([" + INITIALIZED_ATTRIBUTE + "])");
+        JsArray<Element> sections = JavaScriptObject.createArray().cast();
+        for (int i = 0; i < pending.getLength(); i++) {
+            sections.push(pending.getItem(i));
+        }
+
+        if (sections.length() > 0) {
+            initSections(sections);
+        }
+    }
+
+    public static boolean isInitialized(Element section) {
+        return section.hasAttribute(INITIALIZED_ATTRIBUTE);
     }
 
+    protected boolean isPending(Element section) {
+        return section.hasClassName(CssName.SCROLLSPY) && !isInitialized(section);
+    }
+
+    protected static void initSections(JsArray<Element> sections) {
+        for (int i = 0; i < sections.length(); i++) {
+            sections.get(i).setAttribute(INITIALIZED_ATTRIBUTE, "");
+        }
+        scrollSpy(sections);
+    }
+
+    public static boolean isLinkBound(Element link) {
+        return link.hasAttribute(LINK_ATTRIBUTE);
+    }
+
+    private static native void scrollSpy(JsArray<Element> sections) /*-{
+        var $ = $wnd.jQuery;
+        $(sections).scrollSpy();
+        // Mark the links scrollSpy bound its smooth scrolling to
+        for (var i = 0; i < sections.length; i++) {
+            $('a[href="#' + sections[i].id + '"]').attr(@gwt.material.design.client.ui.MaterialScrollspy::LINK_ATTRIBUTE, '');
+        }
+    }-*/;
+
+    /**
+     * Bind the smooth scrolling of a link to an already initialized section, the same way scrollSpy does.
+     */
+    private static native void bindLink(Element link) /*-{
+        var $ = $wnd.jQuery;
+        $(link).attr(@gwt.material.design.client.ui.MaterialScrollspy::LINK_ATTRIBUTE, '').click(function (e) {
+            e.preventDefault();
+            var offset = $(this.hash).offset().top + 1;
+            $('html, body').animate({scrollTop: offset - 200}, {duration: 400, queue: false, easing: 'easeOutCubic'});
+        });
+    }-*/;
+
+    private static native NodeList<Element> querySelectorAll(String selector) /*-{
+        return $doc.querySelectorAll(selector);
+    }-*/;
+
     @Override
     public void unload() {
         clearActiveState();
@@ -19,18 +19,21 @@
  */
 package gwt.material.design.client.ui;
 
+import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.event.dom.client.KeyCodes;
-import com.google.gwt.event.dom.client.KeyUpEvent;
-import com.google.gwt.event.dom.client.KeyUpHandler;
 import com.google.gwt.event.logical.shared.*;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.gwt.user.client.ui.TextBox;
 import gwt.material.design.client.base.HasActive;
 import gwt.material.design.client.base.HasSearchHandlers;
 import gwt.material.design.client.base.SearchObject;
+import gwt.material.design.client.base.search.SearchIndex;
+import gwt.material.design.client.base.search.SearchProvider;
+import gwt.material.design.client.base.search.SearchResultCache;
 import gwt.material.design.client.constants.Color;
-import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.constants.IconType;
 import gwt.material.design.client.constants.InputType;
 import gwt.material.design.client.events.SearchFinishEvent;
@@ -111,6 +114,21 @@ public class MaterialSearch extends MaterialValueBox<String> implements HasOpenH
      */
     private int curSel = -1;
     private boolean active;
+    /**
+     * Maximum number of result items displayed, zero or less for no limit
+     */
+    private int resultLimit = 0;
+    private SearchIndex searchIndex;
+    /**
+     * Optional provider of the search results, the in-memory search index is used if not set
+     */
+    private SearchProvider searchProvider;
+    private SearchResultCache searchCache;
+    private Timer searchTimer;
+    private int searchDelay = 0;
+    private int searchRequest;
+    private String requestedKeyword;
+    private String displayedKeyword;
 
     public MaterialSearch() {
         super(new TextBox());
@@ -144,111 +162,201 @@ public class MaterialSearch extends MaterialValueBox<String> implements HasOpenH
         add(searchResultPanel);
 
         // Add Key Up event to filter the searches
-        registerHandler(addKeyUpHandler(new KeyUpHandler() {
-            @Override
-            public void onKeyUp(KeyUpEvent event) {
-                String keyword = getText().toLowerCase();
-                // Clear the panel and temp objects
-                searchResultPanel.clear();
-                tempSearches.clear();
-
-                // Populate the search result items
-                for (final SearchObject obj : getListSearches()) {
-                    MaterialLink link = new MaterialLink();
-                    link.setIconColor(Color.GREY);
-                    link.setTextColor(Color.BLACK);
-                    // Generate an icon
-                    if (obj.getIcon() != null) {
-                        link.setIconType(obj.getIcon());
+        registerHandler(addKeyUpHandler(event -> {
+            int keyCode = event.getNativeEvent().getKeyCode();
+            if (keyCode == KeyCodes.KEY_ENTER) {
+                if (getText().equals(displayedKeyword)) {
+                    applySelectedSearch();
+                } else {
+                    // Results are not up to date yet, apply them once received
+                    performSearch(getText(), true);
+                }
+            } else if (keyCode == KeyCodes.KEY_DOWN || keyCode == KeyCodes.KEY_UP) {
+                // Selection logic using key up / down events to navigate the search results
+                int totalItems = searchResultPanel.getWidgetCount();
+                if (totalItems > 0) {
+                    if (keyCode == KeyCodes.KEY_DOWN) {
+                        if (++curSel >= totalItems)
+                            curSel = 0;
+                    } else {
+                        if (--curSel < 0)
+                            curSel = totalItems - 1;
                     }
 
-                    // Generate an image
-                    MaterialImage image = new MaterialImage();
-                    if (obj.getResource() != null) {
-                        image.setResource(obj.getResource());
-                        link.insert(image, 0);
-                    }
+                    applyHighlightedItem((MaterialLink) searchResultPanel.getWidget(curSel));
+                }
+            } else if (!getText().equals(requestedKeyword)) {
+                scheduleSearch(getText());
+            }
+        }));
+    }
 
-                    if (obj.getImageUrl() != null) {
-                        image.setUrl(obj.getImageUrl());
-                        link.insert(image, 0);
-                    }
+    /**
+     * Schedule a search for the given keyword after the {@link #getSearchDelay()},
+     * any search requested before is superseded.
+     */
+    protected void scheduleSearch(String keyword) {
+        if (searchDelay > 0) {
+            requestedKeyword = keyword;
+            searchRequest++;
+            getSearchTimer().schedule(searchDelay);
+        } else {
+            performSearch(keyword, false);
+        }
+    }
 
-                    if (!obj.getLink().isEmpty()) {
-                        link.setHref(obj.getLink());
-                    }
-                    link.setText(obj.getKeyword());
-                    link.addClickHandler(event1 -> {
-                        setSelectedObject(obj);
-                        reset(obj.getKeyword());
-                    });
-                    // If matches add to search result container and object to temp searches
-                    if (match(obj, keyword)) {
-                        searchResultPanel.add(link);
-                        tempSearches.add(obj);
-                    }
-                }
+    /**
+     * Request the results for the given keyword from the {@link SearchProvider}, or the
+     * in-memory {@link SearchIndex} when there is no provider. Only the response of the
+     * latest request is rendered.
+     */
+    protected void performSearch(String keyword, boolean applySelection) {
+        if (searchTimer != null) {
+            searchTimer.cancel();
+        }
+        requestedKeyword = keyword;
+        final int request = ++searchRequest;
 
-                // Apply selected search
-                if (event.getNativeEvent().getKeyCode() == KeyCodes.KEY_ENTER && !tempSearches.isEmpty()) {
-                    if (getCurSel() == -1) {
-                        setSelectedObject(tempSearches.get(0));
-                        setSelectedLink((MaterialLink) searchResultPanel.getWidget(0));
-                    } else {
-                        setSelectedObject(tempSearches.get(curSel));
-                    }
+        if (searchProvider == null) {
+            renderSearchResults(keyword, search(keyword), applySelection);
+            return;
+        }
 
-                    MaterialLink selLink = getSelectedLink();
-                    if (!selLink.getHref().isEmpty()) {
-                        locateSearch(selLink.getHref());
-                    }
-                    reset(selLink.getText());
+        List<SearchObject> cached = getSearchCache().get(keyword);
+        if (cached != null) {
+            renderSearchResults(keyword, cached, applySelection);
+            return;
+        }
+
+        searchProvider.search(keyword, resultLimit, new AsyncCallback<List<SearchObject>>() {
+            @Override
+            public void onSuccess(List<SearchObject> results) {
+                getSearchCache().put(keyword, results);
+                if (request == searchRequest) {
+                    renderSearchResults(keyword, results, applySelection);
                 }
+            }
 
-                // Fire an event if there's no search result
-                if (searchResultPanel.getWidgetCount() == 0) {
-                    SearchNoResultEvent.fire(MaterialSearch.this);
+            @Override
+            public void onFailure(Throwable caught) {
+                if (request == searchRequest) {
+                    GWT.log("Search provider failed to search for '" + keyword + "'", caught);
                 }
+            }
+        });
+    }
 
-                // Selection logic using key down event to navigate the search results
-                int totalItems = searchResultPanel.getWidgetCount();
-                if (totalItems > 0) {
-                    if (event.getNativeEvent().getKeyCode() == KeyCodes.KEY_DOWN) {
-                    	if (++curSel >= totalItems)
-                    		curSel = 0;
-                    	
-                    	applyHighlightedItem((MaterialLink) searchResultPanel.getWidget(curSel));
-                    }
+    protected void renderSearchResults(String keyword, List<SearchObject> results, boolean applySelection) {
+        displayedKeyword = keyword;
+        curSel = -1;
 
-                    // Selection logic using key up event to navigate the search results
-                    if (event.getNativeEvent().getKeyCode() == KeyCodes.KEY_UP) {
-                    	if (--curSel < 0)
-                    		curSel = totalItems - 1;
-                    	
-                    	applyHighlightedItem((MaterialLink) searchResultPanel.getWidget(curSel));
-                    }                	
-                }
+        // Reuse the links of the results that are still displayed
+        searchResultPanel.setResults(results, this::createResultLink);
+        tempSearches.clear();
+        tempSearches.addAll(results);
+
+        // Fire an event if there's no search result
+        if (searchResultPanel.getWidgetCount() == 0) {
+            SearchNoResultEvent.fire(MaterialSearch.this);
+        }
+
+        if (applySelection) {
+            applySelectedSearch();
+        }
+    }
+
+    /**
+     * Apply the highlighted search result, or the first one if none is highlighted.
+     */
+    protected void applySelectedSearch() {
+        if (!tempSearches.isEmpty()) {
+            if (getCurSel() == -1) {
+                setSelectedObject(tempSearches.get(0));
+                setSelectedLink((MaterialLink) searchResultPanel.getWidget(0));
+            } else {
+                setSelectedObject(tempSearches.get(curSel));
             }
 
-            // Resets the search result panel
-            private void reset(String keyword) {
-                SearchFinishEvent.fire(MaterialSearch.this);
-                curSel = -1;
-                setText(keyword);
-                $(valueBoxBase.getElement()).focus();
-                searchResultPanel.clear();
+            MaterialLink selLink = getSelectedLink();
+            if (!selLink.getHref().isEmpty()) {
+                locateSearch(selLink.getHref());
             }
-        }));
+            resetSearch(selLink.getText());
+        }
+    }
+
+    /**
+     * Find the search objects matching the given keyword, limited to {@link #getResultLimit()}.
+     * Override this to provide a custom matching strategy.
+     */
+    protected List<SearchObject> search(String keyword) {
+        return getSearchIndex().search(keyword, resultLimit);
     }
 
-	protected boolean match(SearchObject obj, String keyword) {
-		return obj.getKeyword().toLowerCase().contains(keyword);
-	}
+    /**
+     * Creates the result link displayed for a matching search object.
+     */
+    protected MaterialLink createResultLink(SearchObject obj) {
+        MaterialLink link = new MaterialLink();
+        link.setIconColor(Color.GREY);
+        link.setTextColor(Color.BLACK);
+        // Generate an icon
+        if (obj.getIcon() != null) {
+            link.setIconType(obj.getIcon());
+        }
+
+        // Generate an image
+        if (obj.getResource() != null || obj.getImageUrl() != null) {
+            MaterialImage image = new MaterialImage();
+            if (obj.getResource() != null) {
+                image.setResource(obj.getResource());
+            }
+            if (obj.getImageUrl() != null) {
+                image.setUrl(obj.getImageUrl());
+            }
+            link.insert(image, 0);
+        }
+
+        if (!obj.getLink().isEmpty()) {
+            link.setHref(obj.getLink());
+        }
+        link.setText(obj.getKeyword());
+        link.addClickHandler(event -> {
+            // The link may be reused for an equivalent object of later results
+            SearchObject current = searchResultPanel.getObject(link);
+            SearchObject selected = current != null ? current : obj;
+            setSelectedObject(selected);
+            resetSearch(selected.getKeyword());
+        });
+        return link;
+    }
+
+    /**
+     * Resets the search result panel
+     */
+    protected void resetSearch(String keyword) {
+        SearchFinishEvent.fire(MaterialSearch.this);
+        curSel = -1;
+        setText(keyword);
+        $(valueBoxBase.getElement()).focus();
+        searchResultPanel.clear();
+        tempSearches.clear();
+        requestedKeyword = keyword;
+        displayedKeyword = null;
+    }
 
     @Override
     protected void onUnload() {
         super.onUnload();
 
+        // Ignore any pending search
+        if (searchTimer != null) {
+            searchTimer.cancel();
+        }
+        searchRequest++;
+        requestedKeyword = null;
+        displayedKeyword = null;
+
         clear();
         setCurSel(-1);
     }
@@ -269,7 +377,7 @@ public class MaterialSearch extends MaterialValueBox<String> implements HasOpenH
     }
 
     protected void applyHighlightedItem(MaterialLink link) {
-        link.addStyleName(CssName.HIGLIGHTED);
+        searchResultPanel.setHighlighted(link);
         setSelectedLink(link);
     }
 
@@ -309,6 +417,92 @@ public class MaterialSearch extends MaterialValueBox<String> implements HasOpenH
 
     public void setListSearches(List<SearchObject> listSearches) {
         this.listSearches = listSearches;
+        getSearchIndex().setObjects(listSearches);
+        requestedKeyword = null;
+    }
+
+    /**
+     * Set the maximum number of result items displayed, zero or less for no limit.
+     */
+    public void setResultLimit(int resultLimit) {
+        if (resultLimit != this.resultLimit) {
+            this.resultLimit = resultLimit;
+            // Cached provider results were fetched with the former limit
+            clearSearchCache();
+        }
+    }
+
+    public int getResultLimit() {
+        return resultLimit;
+    }
+
+    /**
+     * Set a provider for the search results, e.g. backed by a server endpoint or a web worker.
+     * Set to <code>null</code> to filter the {@link #getListSearches()} in memory.
+     */
+    public void setSearchProvider(SearchProvider searchProvider) {
+        this.searchProvider = searchProvider;
+        clearSearchCache();
+    }
+
+    public SearchProvider getSearchProvider() {
+        return searchProvider;
+    }
+
+    /**
+     * Set the delay in milliseconds the user has to stop typing before the search is performed.
+     * Default: 0
+     */
+    public void setSearchDelay(int searchDelay) {
+        this.searchDelay = searchDelay;
+    }
+
+    public int getSearchDelay() {
+        return searchDelay;
+    }
+
+    /**
+     * Set the number of recent search provider results kept in memory. Default: 10
+     */
+    public void setSearchCacheSize(int size) {
+        getSearchCache().setMaxSize(size);
+    }
+
+    public int getSearchCacheSize() {
+        return getSearchCache().getMaxSize();
+    }
+
+    /**
+     * Clear the cached search provider results, e.g. once the underlying data changed.
+     */
+    public void clearSearchCache() {
+        getSearchCache().clear();
+    }
+
+    protected SearchResultCache getSearchCache() {
+        if (searchCache == null) {
+            searchCache = new SearchResultCache(10);
+        }
+        return searchCache;
+    }
+
+    protected Timer getSearchTimer() {
+        if (searchTimer == null) {
+            searchTimer = new Timer() {
+                @Override
+                public void run() {
+                    performSearch(getText(), false);
+                }
+            };
+        }
+        return searchTimer;
+    }
+
+    public SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex(listSearches);
+        }
+        return searchIndex;
     }
 
     public int getCurSel() {
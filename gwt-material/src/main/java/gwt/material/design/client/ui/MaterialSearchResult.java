@@ -21,8 +21,16 @@ package gwt.material.design.client.ui;
 
 import com.google.gwt.dom.client.Document;
 import gwt.material.design.client.base.MaterialWidget;
+import gwt.material.design.client.base.SearchObject;
 import gwt.material.design.client.constants.CssName;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
 //@formatter:off
 
 /**
@@ -36,7 +44,110 @@ import gwt.material.design.client.constants.CssName;
 //@formatter:on
 public class MaterialSearchResult extends MaterialWidget {
 
+    /**
+     * Creates the link displayed for a search object.
+     */
+    public interface ResultRenderer {
+        MaterialLink render(SearchObject object);
+    }
+
+    private final Map<MaterialLink, SearchObject> objects = new LinkedHashMap<>();
+    private MaterialLink highlighted;
+
     public MaterialSearchResult() {
         super(Document.get().createDivElement(), CssName.SEARCH_RESULT, CssName.Z_DEPTH_1);
     }
+
+    /**
+     * Display the given search results. Links of search objects that are already displayed
+     * (with the same keyword and link) are reused, only links of new objects are rendered and
+     * links of objects no longer part of the results are removed.
+     */
+    public void setResults(List<SearchObject> results, ResultRenderer renderer) {
+        setHighlighted(null);
+
+        // Displayed links by key, in order, so that duplicate results each keep a link
+        Map<String, LinkedList<MaterialLink>> previous = new HashMap<>();
+        for (Map.Entry<MaterialLink, SearchObject> entry : objects.entrySet()) {
+            previous.computeIfAbsent(getKey(entry.getValue()), key -> new LinkedList<>()).add(entry.getKey());
+        }
+        objects.clear();
+
+        List<MaterialLink> links = new ArrayList<>(results.size());
+        for (SearchObject object : results) {
+            LinkedList<MaterialLink> reusable = previous.get(getKey(object));
+            MaterialLink link = reusable != null && !reusable.isEmpty() ? reusable.poll() : renderer.render(object);
+            objects.put(link, object);
+            links.add(link);
+        }
+
+        // Remove the links of the objects that no longer match
+        for (List<MaterialLink> unused : previous.values()) {
+            for (MaterialLink link : unused) {
+                link.removeFromParent();
+            }
+        }
+
+        // Surviving links usually keep their relative order, so only new links are inserted
+        for (int i = 0; i < links.size(); i++) {
+            MaterialLink link = links.get(i);
+            if (i >= getWidgetCount()) {
+                add(link);
+            } else if (getWidget(i) != link) {
+                insert(link, i);
+            }
+        }
+    }
+
+    /**
+     * The key identifying the link of a search object, providers usually return new
+     * instances for every query.
+     */
+    protected String getKey(SearchObject object) {
+        return object.getKeyword() + '\n' + object.getLink();
+    }
+
+    /**
+     * Get the link displaying the given search object, or <code>null</code> if not displayed.
+     */
+    public MaterialLink getLink(SearchObject object) {
+        for (Map.Entry<MaterialLink, SearchObject> entry : objects.entrySet()) {
+            if (entry.getValue() == object) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the search object currently displayed by the given link, or <code>null</code> if none.
+     */
+    public SearchObject getObject(MaterialLink link) {
+        return objects.get(link);
+    }
+
+    /**
+     * Highlight the given link, removing the highlight of the previous one.
+     */
+    public void setHighlighted(MaterialLink link) {
+        if (highlighted != null) {
+            highlighted.removeStyleName(CssName.HIGLIGHTED);
+        }
+        highlighted = link;
+        if (link != null) {
+            link.addStyleName(CssName.HIGLIGHTED);
+        }
+    }
+
+    public MaterialLink getHighlighted() {
+        return highlighted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+
+        objects.clear();
+        highlighted = null;
+    }
 }
@@ -21,6 +21,7 @@ package gwt.material.design.client.ui;
 
 import com.google.gwt.user.client.ui.Widget;
 import gwt.material.design.client.base.HasHref;
+import gwt.material.design.client.base.helper.RegExpCache;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.ui.html.ListItem;
 
@@ -66,7 +67,7 @@ public class MaterialTabItem extends ListItem {
             if (child instanceof HasHref) {
                 String href = ((HasHref) child).getHref();
                 if (parent != null && !href.isEmpty()) {
-                    parent.selectTab(href.replaceAll("[^a-zA-Z\\d\\s:]", ""));
+                    parent.selectTab(RegExpCache.replaceAll(href, "[^a-zA-Z\\d\\s:]", ""));
                     parent.reload();
                     break;
                 }
@@ -19,15 +19,20 @@
  */
 package gwt.material.design.client.ui;
 
+import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.user.client.DOM;
 import com.google.gwt.user.client.ui.RootPanel;
 import com.google.gwt.user.client.ui.Widget;
+import gwt.material.design.client.base.MaterialWidget;
+import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.js.JsMaterialElement;
 import gwt.material.design.jquery.client.api.Functions;
 import gwt.material.design.jquery.client.api.JQueryElement;
 
+import java.util.Objects;
+
 import static gwt.material.design.jquery.client.api.JQuery.$;
 
 //@formatter:off
@@ -56,11 +61,37 @@ import static gwt.material.design.jquery.client.api.JQuery.$;
 public class MaterialToast {
 
     public static final int DURATION = 4000;
+    public static final String TOAST_CONTAINER = "toast-container";
+
+    /**
+     * Logically attaches the widgets added to a toast element, detached again once the toast is closed.
+     */
+    static class ToastPanel extends MaterialWidget {
+
+        ToastPanel(Element element) {
+            super(element);
+            onAttach();
+            RootPanel.detachOnWindowClose(this);
+        }
+
+        void detach() {
+            if (isAttached()) {
+                RootPanel.detachNow(this);
+            }
+        }
+    }
 
     private Functions.Func callback;
     private Widget[] widgets;
+    private String message;
+    private String className;
+    private int count = 1;
+    // Incremented per display, completions of an earlier display are ignored
+    private int generation;
 
     private JQueryElement element;
+    private ToastPanel toastPanel;
+    private Element counter;
 
     public MaterialToast(Widget... widgets) {
         this.widgets = widgets;
@@ -142,8 +173,13 @@ public class MaterialToast {
      * @param lifeMillis how long it should present itself before being removed.
      *                   If value is less than 0 - then it will be treated as unlimited duration
      * @param className  class name to custom style your toast.
+     * @see ToastManager
      */
     public void toast(String msg, int lifeMillis, String className) {
+        ToastManager.show(this, msg, lifeMillis, className);
+    }
+
+    protected void display(String msg, int lifeMillis, String className) {
         String id;
         if (element != null) {
             id = (String) element.attr("id");
@@ -162,42 +198,119 @@ public class MaterialToast {
             duration = "unlimited";
         }
 
+        int displayed = ++generation;
         JsMaterialElement.toast(msg, duration, className, () -> {
+            if (displayed != generation) {
+                return;
+            }
             if (callback != null) {
                 callback.call();
             }
+            onClosed();
         });
 
-        element = $(".toast." + id);
+        // The toast is appended last to the container, no need to query the document
+        Element toastElement = null;
+        Element container = Document.get().getElementById(TOAST_CONTAINER);
+        if (container != null && container.getLastChild() != null) {
+            toastElement = container.getLastChild().cast();
+            if (!toastElement.hasClassName(id)) {
+                toastElement = null;
+            }
+        }
+        if (toastElement == null) {
+            // Nothing was displayed
+            onClosed();
+            return;
+        }
+
+        element = $(toastElement);
         element.attr("id", id);
-        //element.toggleClass(className, true);
+        if (count > 1) {
+            updateCounter();
+        }
 
-        if (widgets != null) {
-            RootPanel toast = RootPanel.get(id);
+        if (widgets != null && widgets.length > 0) {
+            toastPanel = new ToastPanel(toastElement);
             for (Widget widget : widgets) {
                 widget.getElement().getStyle().setPaddingLeft(20, Unit.PX);
-                toast.add(widget);
+                toastPanel.add(widget);
             }
         }
     }
 
+    protected void onClosed() {
+        detachWidgets();
+        ToastManager.onClosed(this);
+    }
+
+    /**
+     * Remove the displayed toast without notifying the {@link ToastManager}, used
+     * when the toast is displayed again.
+     */
+    void remove() {
+        generation++;
+        if (isOpen()) {
+            element.remove();
+        }
+        detachWidgets();
+    }
+
+    protected void detachWidgets() {
+        if (toastPanel != null) {
+            toastPanel.detach();
+            toastPanel = null;
+        }
+    }
+
     public void close() {
-        String id = getId();
-        if (id != null && !id.isEmpty()) {
-            Widget toast = RootPanel.get(id);
-            if (toast != null && toast.isAttached()) {
-                element.remove();
-            }
+        if (isOpen()) {
+            generation++;
+            element.remove();
+            onClosed();
         }
     }
 
     public boolean isOpen() {
-        String id = getId();
-        if (id != null && !id.isEmpty()) {
-            Widget toast = RootPanel.get(id);
-            return toast.isAttached() && toast.isVisible();
+        return element != null && Document.get().getBody().isOrHasChild(element.asElement());
+    }
+
+    /**
+     * Get the number of identical messages coalesced into this toast.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    void setMessage(String message, String className) {
+        this.message = message;
+        this.className = className;
+        this.count = 1;
+    }
+
+    boolean isCoalescable() {
+        return callback == null && (widgets == null || widgets.length == 0);
+    }
+
+    boolean matches(String message, String className) {
+        return isCoalescable() && Objects.equals(this.message, message) && Objects.equals(this.className, className);
+    }
+
+    void increaseCount(int amount) {
+        count += amount;
+        if (isOpen()) {
+            updateCounter();
+        }
+    }
+
+    protected void updateCounter() {
+        Element toastElement = element.asElement();
+        if (counter == null || !toastElement.isOrHasChild(counter)) {
+            counter = Document.get().createSpanElement();
+            counter.addClassName(CssName.BADGE);
+            toastElement.appendChild(counter);
         }
-        return false;
+        counter.setInnerText(String.valueOf(count));
     }
 
     public String getId() {
@@ -32,8 +32,11 @@ import gwt.material.design.client.constants.Position;
 import gwt.material.design.client.js.JsTooltipOptions;
 import gwt.material.design.jquery.client.api.JQueryElement;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import static gwt.material.design.client.js.JsMaterialElement.$;
 
@@ -55,6 +58,14 @@ import static gwt.material.design.client.js.JsMaterialElement.$;
  */
 public class MaterialTooltip implements JsLoader, IsWidget, HasWidgets, HasOneWidget, HasId, HasText, HasPosition, HasReload {
 
+    static final int DEFAULT_DELAY = 350;
+    private static boolean sharedOverlay;
+
+    // The mode this tooltip was loaded with, null while not loaded
+    private Boolean shared;
+
+    private Set<String> tooltipClasses;
+
     private String id;
     private String html;
     private Widget widget;
@@ -89,13 +100,53 @@ public class MaterialTooltip implements JsLoader, IsWidget, HasWidgets, HasOneWi
 
     @Override
     public void load() {
-        $(widget.getElement()).tooltip(options);
-        tooltipElement = $("#" + $(widget.getElement()).attr("data-tooltip-id"));
+        shared = sharedOverlay;
+        if (shared) {
+            SharedTooltip.install();
+            tooltipElement = SharedTooltip.getElement();
+        } else {
+            $(widget.getElement()).tooltip(options);
+            tooltipElement = $("#" + $(widget.getElement()).attr("data-tooltip-id"));
+            if (tooltipClasses != null) {
+                tooltipElement.addClass(String.join(" ", tooltipClasses));
+            }
+        }
     }
 
     @Override
     public void unload() {
-        command("remove");
+        if (shared == null) {
+            return;
+        }
+        if (shared) {
+            if (widget != null) {
+                SharedTooltip.hide(widget.getElement());
+            }
+        } else {
+            command("remove");
+        }
+        shared = null;
+    }
+
+    /**
+     * @return true if this tooltip uses the shared overlay, the mode it was loaded with or
+     * the current {@link #isSharedOverlay()} mode while not loaded.
+     */
+    protected boolean isShared() {
+        return shared != null ? shared : sharedOverlay;
+    }
+
+    /**
+     * Use a single {@link SharedTooltip} overlay for all tooltips loaded afterwards instead of
+     * creating a tooltip element per widget. Setting a tooltip then only writes the
+     * <code>data-*</code> attributes of the widget. Tooltips keep the mode they were loaded with.
+     */
+    public static void setSharedOverlay(boolean sharedOverlay) {
+        MaterialTooltip.sharedOverlay = sharedOverlay;
+    }
+
+    public static boolean isSharedOverlay() {
+        return sharedOverlay;
     }
 
     @Override
@@ -325,7 +376,9 @@ public class MaterialTooltip implements JsLoader, IsWidget, HasWidgets, HasOneWi
     public void setHtml(String html) {
         this.html = html;
 
-        if (widget != null) {
+        if (widget != null && isShared()) {
+            setAttribute("data-tooltip-html", html != null ? html : "");
+        } else if (widget != null) {
             if (widget.isAttached()) {
                 tooltipElement.find("span")
                         .html(html != null ? html : "");
@@ -354,7 +407,35 @@ public class MaterialTooltip implements JsLoader, IsWidget, HasWidgets, HasOneWi
         }
     }
 
+    /**
+     * Add style classes to the tooltip element of this widget. With the shared overlay the
+     * classes are applied while this widget's tooltip is shown.
+     */
+    public void addTooltipClass(String... classes) {
+        if (tooltipClasses == null) {
+            tooltipClasses = new LinkedHashSet<>();
+        }
+        Collections.addAll(tooltipClasses, classes);
+
+        if (isShared()) {
+            setAttribute("data-tooltip-class", String.join(" ", tooltipClasses));
+        } else if (tooltipElement != null) {
+            for (String tooltipClass : classes) {
+                tooltipElement.addClass(tooltipClass);
+            }
+        }
+    }
+
+    /**
+     * Get the tooltip element of this widget.
+     *
+     * @throws IllegalStateException with the shared overlay, its element being shared by all
+     * the tooltips. Use {@link #addTooltipClass(String...)} or the <code>data-*</code> attributes instead.
+     */
     public JQueryElement getTooltipElement() {
+        if (isShared()) {
+            throw new IllegalStateException("The tooltip element is shared by all the tooltips in shared overlay mode.");
+        }
         return tooltipElement;
     }
 }
\ No newline at end of file
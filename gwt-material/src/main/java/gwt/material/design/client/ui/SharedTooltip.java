@@ -0,0 +1,248 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui;
+
+import com.google.gwt.dom.client.Element;
+import gwt.material.design.jquery.client.api.JQueryElement;
+
+/**
+ * A single tooltip overlay shared by all the elements having a <code>data-tooltip</code>
+ * attribute, driven by delegated <code>mouseenter</code> and <code>mouseleave</code> handlers
+ * on the document. The <code>data-tooltip</code>, <code>data-tooltip-html</code>,
+ * <code>data-tooltip-class</code>, <code>data-position</code> and <code>data-delay</code>
+ * attributes are read when the element is hovered, so setting a tooltip only costs
+ * attribute writes.
+ * <p>
+ * Elements initialized by the per element materialize tooltip (having a
+ * <code>data-tooltip-id</code> attribute) are ignored.
+ *
+ * @see MaterialTooltip#setSharedOverlay(boolean)
+ */
+public final class SharedTooltip {
+
+    private static JQueryElement element;
+
+    /**
+     * Create the shared overlay and register the delegated handlers, unless already installed.
+     */
+    public static void install() {
+        if (element == null) {
+            element = installNative(MaterialTooltip.DEFAULT_DELAY);
+        }
+    }
+
+    /**
+     * Remove the shared overlay and the delegated handlers.
+     */
+    public static void uninstall() {
+        if (element != null) {
+            uninstallNative(element);
+            element = null;
+        }
+    }
+
+    public static boolean isInstalled() {
+        return element != null;
+    }
+
+    /**
+     * Get the shared overlay element, or <code>null</code> if not installed.
+     */
+    public static JQueryElement getElement() {
+        return element;
+    }
+
+    /**
+     * Hide the overlay if it is currently shown for the given element.
+     */
+    public static void hide(Element origin) {
+        if (element != null) {
+            hideNative(element, origin);
+        }
+    }
+
+    private static native JQueryElement installNative(int defaultDelay) /*-{
+        var $ = $wnd.jQuery;
+        var margin = 5;
+        var tooltip = $('<div class="material-tooltip"><span></span></div>').appendTo($('body'));
+        var backdrop = $('<div class="backdrop"></div>').css({top: 0, left: 0}).appendTo(tooltip);
+        var state = {origin: null, started: false, timeoutRef: null, classes: null};
+
+        var reposition = function (x, y, width, height) {
+            var newX = x;
+            var newY = y;
+            if (newX < 0) {
+                newX = 4;
+            } else if (newX + width > $wnd.innerWidth) {
+                newX -= newX + width - $wnd.innerWidth;
+            }
+            if (newY < 0) {
+                newY = 4;
+            } else if (newY + height > $wnd.innerHeight + $($wnd).scrollTop()) {
+                newY -= newY + height - $wnd.innerHeight;
+            }
+            return {x: newX, y: newY};
+        };
+
+        var hide = function () {
+            tooltip.velocity('stop');
+            backdrop.velocity('stop');
+            tooltip.css({display: 'none', opacity: 0, marginTop: 0, marginLeft: 0});
+            backdrop.css({display: 'none', opacity: 0}).velocity({scale: 1}, {duration: 0});
+            if (state.classes) {
+                tooltip.removeClass(state.classes);
+                state.classes = null;
+            }
+        };
+
+        var show = function (origin) {
+            hide();
+            state.started = true;
+            tooltip.css({display: 'block', left: '0px', top: '0px'});
+
+            // Read the tooltip content lazily
+            var html = origin.attr('data-tooltip-html');
+            if (html) {
+                tooltip.children('span').html(html);
+            } else {
+                tooltip.children('span').text(origin.attr('data-tooltip'));
+            }
+            state.classes = origin.attr('data-tooltip-class') || null;
+            if (state.classes) {
+                tooltip.addClass(state.classes);
+            }
+
+            var offset = origin.offset();
+            var originWidth = origin.outerWidth();
+            var originHeight = origin.outerHeight();
+            var position = origin.attr('data-position');
+            var tooltipHeight = tooltip.outerHeight();
+            var tooltipWidth = tooltip.outerWidth();
+            var verticalMovement = '0px';
+            var horizontalMovement = '0px';
+            var coordinates;
+
+            if (position === 'top') {
+                coordinates = reposition(offset.left + originWidth / 2 - tooltipWidth / 2,
+                    offset.top - tooltipHeight - margin, tooltipWidth, tooltipHeight);
+                verticalMovement = '-10px';
+                backdrop.css({
+                    width: '14px', height: '7px', borderRadius: '14px 14px 0 0', transformOrigin: '50% 90%',
+                    marginTop: tooltipHeight, marginLeft: (tooltipWidth / 2) - 7
+                });
+            } else if (position === 'left') {
+                coordinates = reposition(offset.left - tooltipWidth - margin,
+                    offset.top + originHeight / 2 - tooltipHeight / 2, tooltipWidth, tooltipHeight);
+                horizontalMovement = '-10px';
+                backdrop.css({
+                    width: '14px', height: '14px', borderRadius: '14px 0 0 14px', transformOrigin: '95% 50%',
+                    marginTop: tooltipHeight / 2, marginLeft: tooltipWidth
+                });
+            } else if (position === 'right') {
+                coordinates = reposition(offset.left + originWidth + margin,
+                    offset.top + originHeight / 2 - tooltipHeight / 2, tooltipWidth, tooltipHeight);
+                horizontalMovement = '+10px';
+                backdrop.css({
+                    width: '14px', height: '14px', borderRadius: '0 14px 14px 0', transformOrigin: '5% 50%',
+                    marginTop: tooltipHeight / 2, marginLeft: '0px'
+                });
+            } else {
+                coordinates = reposition(offset.left + originWidth / 2 - tooltipWidth / 2,
+                    offset.top + originHeight + margin, tooltipWidth, tooltipHeight);
+                verticalMovement = '+10px';
+                backdrop.css({
+                    width: '14px', height: '7px', borderRadius: '0 0 14px 14px', transformOrigin: '50% 10%',
+                    marginTop: 0, marginLeft: (tooltipWidth / 2) - 7
+                });
+            }
+
+            tooltip.css({top: coordinates.y, left: coordinates.x});
+
+            var scaleFactor = Math.max(tooltipWidth / 8, 8);
+            if (position === 'right' || position === 'left') {
+                scaleFactor = Math.max(tooltipWidth / 10, 6);
+            }
+
+            tooltip.velocity({marginTop: verticalMovement, marginLeft: horizontalMovement}, {duration: 350, queue: false})
+                .velocity({opacity: 1}, {duration: 300, delay: 50, queue: false});
+            backdrop.css({display: 'block'})
+                .velocity({opacity: 1}, {duration: 55, delay: 0, queue: false})
+                .velocity({scale: scaleFactor}, {duration: 300, delay: 0, queue: false, easing: 'easeInOutQuad'});
+        };
+
+        var selector = '[data-tooltip]:not([data-tooltip-id])';
+        $($doc).on('mouseenter.sharedtooltip', selector, function () {
+            var origin = $(this);
+            var delay = origin.attr('data-delay');
+            delay = (delay === undefined || delay === '') ? defaultDelay : delay;
+
+            clearTimeout(state.timeoutRef);
+            state.origin = this;
+            state.timeoutRef = setTimeout(function () {
+                show(origin);
+            }, delay);
+        }).on('mouseleave.sharedtooltip', selector, function () {
+            if (state.origin !== this) {
+                return;
+            }
+            var origin = this;
+            state.started = false;
+            clearTimeout(state.timeoutRef);
+
+            setTimeout(function () {
+                if (!state.started && state.origin === origin) {
+                    state.origin = null;
+                    tooltip.velocity({opacity: 0, marginTop: 0, marginLeft: 0}, {duration: 225, queue: false});
+                    backdrop.velocity({opacity: 0, scale: 1}, {
+                        duration: 225, queue: false, complete: function () {
+                            if (!state.started) {
+                                hide();
+                            }
+                        }
+                    });
+                }
+            }, 225);
+        });
+
+        tooltip.data('sharedTooltip', {
+            hide: function (origin) {
+                if (state.origin === origin) {
+                    clearTimeout(state.timeoutRef);
+                    state.origin = null;
+                    state.started = false;
+                    hide();
+                }
+            }
+        });
+        return tooltip;
+    }-*/;
+
+    private static native void hideNative(JQueryElement tooltip, Element origin) /*-{
+        tooltip.data('sharedTooltip').hide(origin);
+    }-*/;
+
+    private static native void uninstallNative(JQueryElement tooltip) /*-{
+        $wnd.jQuery($doc).off('.sharedtooltip');
+        tooltip.remove();
+    }-*/;
+
+    private SharedTooltip() {
+    }
+}
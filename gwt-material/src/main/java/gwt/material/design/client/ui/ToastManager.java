@@ -0,0 +1,163 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Controls how many {@link MaterialToast}s are displayed at once. Toasts fired while the
+ * maximum number of visible toasts is reached are queued and displayed in FIFO order as
+ * soon as a visible toast is closed. Identical messages are coalesced into the visible or
+ * queued toast, increasing its counter badge instead of displaying another toast. Toasting
+ * an instance that is already visible or queued replaces its message.
+ *
+ * <pre>
+ * {@code
+ * ToastManager.setMaxVisible(3);
+ * }
+ * </pre>
+ */
+public class ToastManager {
+
+    static class PendingToast {
+        MaterialToast toast;
+        String message;
+        int lifeMillis;
+        String className;
+
+        PendingToast(MaterialToast toast, String message, int lifeMillis, String className) {
+            this.toast = toast;
+            this.message = message;
+            this.lifeMillis = lifeMillis;
+            this.className = className;
+        }
+    }
+
+    private static int maxVisible;
+    private static boolean coalesce = true;
+    private static final List<MaterialToast> visibleToasts = new ArrayList<>();
+    private static final LinkedList<PendingToast> queue = new LinkedList<>();
+
+    static void show(MaterialToast toast, String message, int lifeMillis, String className) {
+        // Forget the toasts that were removed from the document without being closed
+        for (MaterialToast visible : new ArrayList<>(visibleToasts)) {
+            if (!visible.isOpen()) {
+                visible.onClosed();
+            }
+        }
+
+        if (coalesce && toast.isCoalescable()) {
+            for (MaterialToast visible : visibleToasts) {
+                if (visible.matches(message, className)) {
+                    visible.increaseCount(1);
+                    return;
+                }
+            }
+            for (PendingToast pending : queue) {
+                if (pending.toast.matches(message, className)) {
+                    pending.toast.increaseCount(1);
+                    return;
+                }
+            }
+        }
+
+        toast.setMessage(message, className);
+        if (visibleToasts.contains(toast)) {
+            // The toast is displayed again in its own slot
+            toast.remove();
+            display(toast, message, lifeMillis, className);
+            return;
+        }
+        for (PendingToast pending : queue) {
+            if (pending.toast == toast) {
+                pending.message = message;
+                pending.lifeMillis = lifeMillis;
+                pending.className = className;
+                return;
+            }
+        }
+
+        if (maxVisible > 0 && visibleToasts.size() >= maxVisible) {
+            queue.add(new PendingToast(toast, message, lifeMillis, className));
+        } else {
+            display(toast, message, lifeMillis, className);
+        }
+    }
+
+    static void onClosed(MaterialToast toast) {
+        visibleToasts.remove(toast);
+
+        while (!queue.isEmpty() && (maxVisible <= 0 || visibleToasts.size() < maxVisible)) {
+            PendingToast pending = queue.poll();
+            display(pending.toast, pending.message, pending.lifeMillis, pending.className);
+        }
+    }
+
+    protected static void display(MaterialToast toast, String message, int lifeMillis, String className) {
+        if (!visibleToasts.contains(toast)) {
+            visibleToasts.add(toast);
+        }
+        toast.display(message, lifeMillis, className);
+    }
+
+    /**
+     * Set the maximum number of toasts displayed at once, <code>0</code> (the default) for unlimited.
+     */
+    public static void setMaxVisible(int maxVisible) {
+        ToastManager.maxVisible = maxVisible;
+    }
+
+    public static int getMaxVisible() {
+        return maxVisible;
+    }
+
+    /**
+     * Set whether identical messages should be coalesced into a single toast with a counter badge,
+     * enabled by default. Toasts with a callback or widgets are never coalesced.
+     */
+    public static void setCoalesce(boolean coalesce) {
+        ToastManager.coalesce = coalesce;
+    }
+
+    public static boolean isCoalesce() {
+        return coalesce;
+    }
+
+    public static int getVisibleCount() {
+        return visibleToasts.size();
+    }
+
+    public static int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Drop the queued toasts and close the visible ones.
+     */
+    public static void clear() {
+        queue.clear();
+        for (MaterialToast toast : new ArrayList<>(visibleToasts)) {
+            toast.close();
+        }
+        visibleToasts.clear();
+    }
+}
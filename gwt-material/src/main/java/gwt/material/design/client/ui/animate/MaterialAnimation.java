@@ -21,6 +21,7 @@ package gwt.material.design.client.ui.animate;
 
 import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.Widget;
+import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.base.HasDelayTransition;
 import gwt.material.design.client.base.HasDurationTransition;
 import gwt.material.design.client.constants.CssName;
@@ -131,10 +132,12 @@ public class MaterialAnimation implements HasDurationTransition, HasDelayTransit
                     JsMaterialElement.fadeInImage(element);
                     break;
                 case SHOW_GRID:
+                    MaterialDesignBase.requireJs(MaterialDesignBase.ANIMATION);
                     widget.addStyleName(CssName.DISPLAY_ANIMATION);
                     JsMaterialElement.showGrid(element);
                     break;
                 case CLOSE_GRID:
+                    MaterialDesignBase.requireJs(MaterialDesignBase.ANIMATION);
                     widget.addStyleName(CssName.DISPLAY_ANIMATION);
                     JsMaterialElement.closeGrid(element);
                     break;
@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.theme;
+
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.ui.MaterialButton;
+import gwt.material.design.client.ui.MaterialLabel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test case for {@link ThemeManager}.
+ */
+public class ThemeManagerTest extends MaterialTestCase {
+
+    static class ButtonTheme extends WidgetTheme<MaterialButton> {
+        ButtonTheme(String classSelector) {
+            super(MaterialButton.class, classSelector);
+        }
+
+        @Override
+        public MaterialButton onWidgetLoad(MaterialButton widget) {
+            return widget;
+        }
+
+        @Override
+        public MaterialButton onWidgetUnload(MaterialButton widget) {
+            return widget;
+        }
+    }
+
+    static class TestTheme extends Theme {
+        @Override
+        public List<WidgetTheme> load() {
+            List<WidgetTheme> widgetThemes = new ArrayList<>();
+            widgetThemes.add(new ButtonTheme(MaterialButton.class.getName()));
+            widgetThemes.add(new ButtonTheme("primary"));
+            return widgetThemes;
+        }
+
+        @Override
+        public int getPriority() {
+            return 1000;
+        }
+    }
+
+    private TestTheme theme;
+
+    @Override
+    protected void gwtTearDown() throws Exception {
+        super.gwtTearDown();
+
+        if (theme != null) {
+            ThemeManager.removeTheme(theme);
+        }
+    }
+
+    public void testEmptyThemes() {
+        // given
+        assertTrue(ThemeManager.getThemes().isEmpty());
+
+        // when / then
+        assertTrue(ThemeManager.getWidgetThemes(new MaterialButton()).isEmpty());
+        assertEquals(0, ThemeManager.getCacheSize());
+    }
+
+    public void testCache() {
+        // given
+        theme = new TestTheme();
+        ThemeManager.addTheme(theme);
+        MaterialButton button = new MaterialButton();
+
+        // when
+        List<WidgetTheme> widgetThemes = ThemeManager.getWidgetThemes(button);
+
+        // then
+        assertEquals(1, widgetThemes.size());
+        assertSame(widgetThemes, ThemeManager.getWidgetThemes(new MaterialButton()));
+
+        // Style names without a theme selector share the cached themes
+        for (int i = 0; i < 50; i++) {
+            button.addStyleName("dynamic-" + i);
+            assertSame(widgetThemes, ThemeManager.getWidgetThemes(button));
+        }
+        assertEquals(1, ThemeManager.getCacheSize());
+
+        // when
+        button.addStyleName("primary");
+
+        // then
+        assertEquals(2, ThemeManager.getWidgetThemes(button).size());
+        assertEquals(2, ThemeManager.getCacheSize());
+        assertTrue(ThemeManager.getWidgetThemes(new MaterialLabel()).isEmpty());
+    }
+
+    public void testInvalidation() {
+        // given
+        theme = new TestTheme();
+        ThemeManager.addTheme(theme);
+        MaterialButton button = new MaterialButton();
+        button.addStyleName("secondary");
+        assertEquals(1, ThemeManager.getWidgetThemes(button).size());
+
+        // when
+        theme.put("secondary", new ButtonTheme("secondary"));
+
+        // then
+        assertEquals(0, ThemeManager.getCacheSize());
+        assertEquals(2, ThemeManager.getWidgetThemes(button).size());
+
+        // when
+        ThemeManager.addWidgetTheme(theme, new ButtonTheme("other"));
+
+        // then
+        assertEquals(0, ThemeManager.getCacheSize());
+    }
+}
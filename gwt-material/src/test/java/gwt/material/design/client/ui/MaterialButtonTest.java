@@ -19,6 +19,9 @@
  */
 package gwt.material.design.client.ui;
 
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.base.Waves;
+import gwt.material.design.client.constants.WavesType;
 import gwt.material.design.client.ui.base.AbstractIconButtonTest;
 
 /**
@@ -33,4 +36,56 @@ public class MaterialButtonTest extends AbstractIconButtonTest<MaterialButton> {
     protected MaterialButton createWidget() {
         return new MaterialButton();
     }
+
+    public void testScopedWaves() {
+        // given
+        Waves.detectAndApply();
+        assertTrue(Waves.isScoped());
+
+        // when
+        startDisplayEffectCounter();
+        for (int i = 0; i < 20; i++) {
+            MaterialButton button = new MaterialButton();
+            button.setWaves(WavesType.LIGHT);
+            RootPanel.get().add(button);
+        }
+
+        // then
+        assertEquals(0, stopDisplayEffectCounter());
+
+        // given
+        Waves.setScoped(false);
+
+        // when
+        startDisplayEffectCounter();
+        MaterialButton button = new MaterialButton();
+        button.setWaves(WavesType.LIGHT);
+        RootPanel.get().add(button);
+
+        // then
+        assertEquals(1, stopDisplayEffectCounter());
+        Waves.setScoped(true);
+    }
+
+    /**
+     * Wraps Waves.displayEffect to count the document scans.
+     */
+    protected native void startDisplayEffectCounter() /*-{
+        var waves = $wnd.Waves;
+        var original = waves.displayEffect;
+        var counter = function () {
+            counter.count++;
+            return original.apply(this, arguments);
+        };
+        counter.count = 0;
+        counter.original = original;
+        waves.displayEffect = counter;
+    }-*/;
+
+    protected native int stopDisplayEffectCounter() /*-{
+        var waves = $wnd.Waves;
+        var counter = waves.displayEffect;
+        waves.displayEffect = counter.original;
+        return counter.count;
+    }-*/;
 }
@@ -19,12 +19,17 @@
  */
 package gwt.material.design.client.ui;
 
+import com.google.gwt.dom.client.Document;
 import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.base.mixin.VirtualScrollMixin;
 import gwt.material.design.client.constants.Alignment;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.ui.base.MaterialWidgetTest;
 import gwt.material.design.client.ui.html.ListItem;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Test case for Dropdown.
  *
@@ -139,6 +144,72 @@ public class MaterialDropdownTest extends MaterialWidgetTest<MaterialDropDown> {
         return dropdown;
     }
 
+    public void testVirtualScroll() {
+        // given
+        MaterialDropDown<Integer> dropdown = new MaterialDropDown<>();
+        dropdown.setVirtualScroll(true);
+        dropdown.setRowHeight(40);
+        dropdown.setOverscan(2);
+        RootPanel.get().add(dropdown);
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            items.add(i);
+        }
+
+        // when
+        dropdown.setItems(items, item -> new MaterialLink("Item " + item));
+        VirtualScrollMixin<MaterialDropDown<Integer>, Integer> mixin = dropdown.getVirtualScrollMixin();
+
+        // then
+        assertTrue(dropdown.isVirtualScroll());
+        int renderedRows = mixin.getRows().size();
+        assertTrue(renderedRows < 20);
+        assertEquals(renderedRows + 2, dropdown.getWidgetCount());
+
+        // Keyboard navigation scrolls the active row into the window
+        mixin.setActiveIndex(5000);
+        assertEquals(5000, mixin.getActiveIndex());
+        assertNotNull(mixin.getRow(5000));
+        assertTrue(mixin.getRow(5000).getElement().hasClassName(CssName.ACTIVE));
+        assertEquals(renderedRows, mixin.getRows().size());
+        mixin.moveActive(1);
+        assertEquals(Integer.valueOf(5001), mixin.getActiveItem());
+
+        // Selecting a row fires the value change event
+        final Integer[] value = {null};
+        dropdown.addValueChangeHandler(event -> value[0] = event.getValue());
+        ListItem row = mixin.getRow(5001);
+        assertEquals(5001, mixin.getIndexOf(row.getWidget(0).getElement()));
+        row.getWidget(0).getElement().dispatchEvent(
+            Document.get().createClickEvent(1, 1, 1, 1, 1, false, false, false, false));
+        assertEquals(Integer.valueOf(5001), value[0]);
+    }
+
+    public void testVirtualKeyHandler() {
+        // given
+        MaterialLink activator = new MaterialLink("Open");
+        MaterialDropDown<Integer> dropdown = new MaterialDropDown<>(activator);
+        dropdown.setVirtualScroll(true);
+        RootPanel.get().add(activator);
+        RootPanel.get().add(dropdown);
+        dropdown.reload();
+        dropdown.reload();
+
+        // when / then
+        assertFalse(dropdown.isOpen());
+        dropdown.addVirtualKeyHandler();
+        dropdown.addVirtualKeyHandler();
+        assertTrue(dropdown.hasVirtualKeyHandler());
+
+        // The handler removes itself on the next event once the dropdown is closed
+        activator.getElement().dispatchEvent(Document.get().createKeyDownEvent(false, false, false, false, 40));
+        assertFalse(dropdown.hasVirtualKeyHandler());
+
+        dropdown.addVirtualKeyHandler();
+        dropdown.unload();
+        assertFalse(dropdown.hasVirtualKeyHandler());
+    }
+
     public void testEmptyItems() {
         MaterialDropDown dropdown = getWidget(false);
 
@@ -19,6 +19,9 @@
  */
 package gwt.material.design.client.ui;
 
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.ImageElement;
+import com.google.gwt.user.client.ui.RootPanel;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.constants.ImageType;
 import gwt.material.design.client.ui.base.MaterialWidgetTest;
@@ -88,4 +91,30 @@ public class MaterialImageTest extends MaterialWidgetTest<MaterialImage> {
         assertTrue(image.getElement().hasAttribute("alt"));
         assertEquals(TEST_ALT, image.getElement().getAttribute("alt"));
     }
+
+    public void testMaterialboxInit() {
+        // given
+        ImageElement plain = Document.get().createImageElement();
+        plain.addClassName(ImageType.MATERIALBOXED.getCssName());
+        RootPanel.getBodyElement().appendChild(plain);
+
+        // when
+        MaterialImage image = new MaterialImage("test.png", ImageType.MATERIALBOXED);
+        MaterialImage circle = new MaterialImage("test.png", ImageType.CIRCLE);
+        RootPanel.get().add(image);
+        RootPanel.get().add(circle);
+
+        // then
+        assertTrue(image.isMaterialboxInitialized());
+        assertFalse(circle.isMaterialboxInitialized());
+        assertFalse(plain.hasClassName(CssName.INITIALIZED));
+
+        // when
+        circle.setType(ImageType.MATERIALBOXED);
+        MaterialImage.initMaterialboxes();
+
+        // then
+        assertTrue(circle.isMaterialboxInitialized());
+        assertTrue(plain.hasClassName(CssName.INITIALIZED));
+    }
 }
@@ -20,11 +20,13 @@
 package gwt.material.design.client.ui;
 
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.InputElement;
 import com.google.gwt.user.client.ui.RootPanel;
 import gwt.material.design.client.base.MaterialWidget;
 import gwt.material.design.client.constants.CssName;
 import gwt.material.design.client.ui.base.AbstractValueWidgetTest;
 import gwt.material.design.client.ui.dto.User;
+import gwt.material.design.client.ui.html.ListItem;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -268,6 +270,161 @@ public class MaterialListValueBoxTest<T> extends AbstractValueWidgetTest<Materia
     }
 
 
+    public void testIndexLookup() {
+        // given
+        MaterialListValueBox<Integer> valueBox = new MaterialListValueBox<>();
+        RootPanel.get().add(valueBox);
+        for (int i = 0; i < 100; i++) {
+            valueBox.addItem(i, false);
+        }
+
+        // when / then
+        assertEquals(50, valueBox.getIndex(50));
+        assertEquals(50, valueBox.getIndexByString("50"));
+        assertEquals(Integer.valueOf(50), valueBox.getValueByString("50"));
+        assertEquals(-1, valueBox.getIndex(100));
+        assertNull(valueBox.getValueByString("100"));
+
+        valueBox.insertItem(100, 0, false);
+        assertEquals(0, valueBox.getIndex(100));
+        assertEquals(51, valueBox.getIndex(50));
+
+        valueBox.removeValue(100, false);
+        assertEquals(-1, valueBox.getIndex(100));
+        assertEquals(50, valueBox.getIndex(50));
+
+        valueBox.setKeyFactory(object -> "key" + object);
+        assertEquals(50, valueBox.getIndexByString("key50"));
+        assertEquals(-1, valueBox.getIndexByString("50"));
+
+        valueBox.setValue(50);
+        assertEquals(50, valueBox.getSelectedIndex());
+
+        valueBox.clear();
+        assertEquals(-1, valueBox.getIndex(50));
+    }
+
+    public void testBulkAddItems() {
+        // given
+        MaterialListValueBox<Integer> valueBox = new MaterialListValueBox<>();
+        RootPanel.get().add(valueBox);
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            items.add(i);
+        }
+
+        // when / then
+        startMaterialSelectCounter();
+        valueBox.addItems(items, item -> "Item " + item);
+        assertEquals(1, stopMaterialSelectCounter());
+        assertEquals(2000, valueBox.getItemCount());
+        assertEquals("Item 1999", valueBox.getItemText(1999));
+        assertEquals(1999, valueBox.getIndexByString("1999"));
+
+        startMaterialSelectCounter();
+        valueBox.setAcceptableValues(items);
+        assertEquals(1, stopMaterialSelectCounter());
+        assertEquals(2000, valueBox.getItemCount());
+        assertEquals("1999", valueBox.getItemText(1999));
+
+        valueBox.setAllowBlank(true);
+        startMaterialSelectCounter();
+        valueBox.setAcceptableValues(items);
+        assertEquals(1, stopMaterialSelectCounter());
+        assertEquals(2001, valueBox.getItemCount());
+        assertNull(valueBox.getValue(0));
+        assertEquals(Integer.valueOf(0), valueBox.getValue(1));
+    }
+
+    public void testVirtualScroll() {
+        // given
+        MaterialListValueBox<Integer> valueBox = new MaterialListValueBox<>();
+        valueBox.setVirtualScroll(true);
+        RootPanel.get().add(valueBox);
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            items.add(i);
+        }
+        final Integer[] changed = {null};
+        valueBox.addValueChangeHandler(event -> changed[0] = event.getValue());
+
+        // when
+        startMaterialSelectCounter();
+        valueBox.addItems(items, item -> "Item " + item);
+        valueBox.setValue(2500);
+
+        // then
+        assertEquals(0, stopMaterialSelectCounter());
+        MaterialDropDown<Integer> dropDown = valueBox.getVirtualDropDown();
+        assertTrue(dropDown.isVirtualScroll());
+        assertEquals(5000, dropDown.getVirtualScrollMixin().getItems().size());
+        assertTrue(dropDown.getVirtualScrollMixin().getRows().size() < 5000);
+        assertEquals(2500, dropDown.getVirtualScrollMixin().getActiveIndex());
+        InputElement input = valueBox.getElement().getElementsByTagName("input").getItem(0).cast();
+        assertEquals("Item 2500", input.getValue());
+
+        // when
+        dropDown.selectVirtualItem(10);
+
+        // then
+        assertEquals(Integer.valueOf(10), valueBox.getValue());
+        assertEquals(Integer.valueOf(10), changed[0]);
+        assertEquals("Item 10", input.getValue());
+
+        // Multiple selections are rejected in virtual scroll mode
+        try {
+            valueBox.setMultipleSelect(true);
+            fail("Multiple selections should not be supported in virtual scroll mode");
+        } catch (IllegalStateException e) {
+            assertFalse(valueBox.isMultipleSelect());
+        }
+    }
+
+    public void testVirtualScrollDuplicateValues() {
+        // given
+        MaterialListValueBox<String> valueBox = new MaterialListValueBox<>();
+        valueBox.setVirtualScroll(true);
+        RootPanel.get().add(valueBox);
+        valueBox.addItem("same", "First");
+        valueBox.addItem("other", "Other");
+        valueBox.addItem("same", "Second");
+        MaterialDropDown<Integer> dropDown = valueBox.getVirtualDropDown();
+
+        // when
+        dropDown.selectVirtualItem(2);
+
+        // then
+        assertEquals(2, valueBox.getSelectedIndex());
+        assertEquals("Second", valueBox.getSelectedItemText());
+        ListItem row = dropDown.getVirtualScrollMixin().getRow(2);
+        assertNotNull(row);
+        assertEquals("Second", ((MaterialLink) row.getWidget(0)).getText());
+    }
+
+    /**
+     * Wraps the jQuery material_select plugin to count its initializations.
+     */
+    protected native void startMaterialSelectCounter() /*-{
+        var fn = $wnd.jQuery.fn;
+        var original = fn.material_select;
+        var counter = function (action) {
+            if (action !== "destroy") {
+                counter.count++;
+            }
+            return original.apply(this, arguments);
+        };
+        counter.count = 0;
+        counter.original = original;
+        fn.material_select = counter;
+    }-*/;
+
+    protected native int stopMaterialSelectCounter() /*-{
+        var fn = $wnd.jQuery.fn;
+        var counter = fn.material_select;
+        fn.material_select = counter.original;
+        return counter.count;
+    }-*/;
+
     @Override
     protected void checkWaves(MaterialListValueBox<T> widget, boolean checkElement) {
         super.checkWaves(getWidget(), false);
@@ -0,0 +1,86 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui;
+
+import com.google.gwt.user.client.ui.RootPanel;
+import com.google.gwt.user.client.ui.Widget;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.constants.CssName;
+
+/**
+ * Test case for Pager
+ */
+public class MaterialPagerTest extends MaterialTestCase {
+
+    public void testPageLinkPool() {
+        // given
+        MaterialPager pager = new MaterialPager(1000, 10);
+        pager.setMaxPageLinksShown(5);
+        int[] events = {0};
+        pager.addPageSelectionHandler(event -> events[0]++);
+        RootPanel.get().add(pager);
+
+        // left + 5 page links + right
+        assertEquals(7, pager.getWidgetCount());
+        Widget firstPageLink = pager.getWidget(1);
+        assertEquals(1, events[0]);
+        assertTrue(firstPageLink.getElement().hasClassName(CssName.ACTIVE));
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            pager.onPageSelection(pager.getCurrentPage() + 1);
+        }
+
+        // then
+        assertEquals(21, pager.getCurrentPage());
+        assertEquals(21, events[0]);
+        assertEquals(7, pager.getWidgetCount());
+        assertSame(firstPageLink, pager.getWidget(1));
+        assertEquals("21", ((MaterialPager.PagerListItem) firstPageLink).getLink().getText());
+        assertTrue(firstPageLink.getElement().hasClassName(CssName.ACTIVE));
+        assertFalse(pager.getWidget(2).getElement().hasClassName(CssName.ACTIVE));
+
+        // Moving back shows the previous range with the same links
+        pager.onPageSelection(20);
+        assertEquals("16", ((MaterialPager.PagerListItem) pager.getWidget(1)).getLink().getText());
+        assertTrue(pager.getWidget(5).getElement().hasClassName(CssName.ACTIVE));
+        assertEquals(22, events[0]);
+    }
+
+    public void testLastPages() {
+        // given
+        MaterialPager pager = new MaterialPager(23, 10);
+        pager.setMaxPageLinksShown(2);
+        pager.setEnableIndicator(true);
+        RootPanel.get().add(pager);
+
+        // when
+        pager.onPageSelection(3);
+
+        // then
+        MaterialPager.PagerListItem first = (MaterialPager.PagerListItem) pager.getWidget(1);
+        MaterialPager.PagerListItem second = (MaterialPager.PagerListItem) pager.getWidget(2);
+        assertEquals(3, first.getPage());
+        assertTrue(first.isVisible());
+        assertFalse(second.isVisible());
+        assertFalse(((MaterialPager.PagerListItem) pager.getWidget(3)).isEnabled());
+        assertEquals("Page 3 of 3", pager.getIndicator().getText());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui;
+
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.MaterialTestCase;
+
+/**
+ * Test case for Scrollspy
+ */
+public class MaterialScrollspyTest extends MaterialTestCase {
+
+    public void testSectionInit() {
+        // given
+        MaterialPanel topic1 = new MaterialPanel();
+        topic1.setScrollspy("topic1");
+        MaterialPanel topic2 = new MaterialPanel();
+        topic2.setScrollspy("topic2");
+        MaterialPanel other = new MaterialPanel();
+        other.setScrollspy("other");
+        RootPanel.get().add(topic1);
+        RootPanel.get().add(topic2);
+        RootPanel.get().add(other);
+
+        MaterialScrollspy scrollspy = new MaterialScrollspy();
+        scrollspy.add(new MaterialLink("Topic 1", "#topic1"));
+        scrollspy.add(new MaterialLink("Topic 2", "#topic2"));
+
+        // when
+        RootPanel.get().add(scrollspy);
+
+        // then
+        assertTrue(MaterialScrollspy.isInitialized(topic1.getElement()));
+        assertTrue(MaterialScrollspy.isInitialized(topic2.getElement()));
+        assertFalse(MaterialScrollspy.isInitialized(other.getElement()));
+
+        // when
+        MaterialScrollspy.initAll();
+
+        // then
+        assertTrue(MaterialScrollspy.isInitialized(other.getElement()));
+    }
+
+    public void testLinksToInitializedSections() {
+        // given
+        MaterialPanel topic = new MaterialPanel();
+        topic.setScrollspy("linked-topic");
+        RootPanel.get().add(topic);
+        MaterialScrollspy first = new MaterialScrollspy();
+        MaterialLink firstLink = new MaterialLink("Topic", "#linked-topic");
+        first.add(firstLink);
+        RootPanel.get().add(first);
+        assertTrue(MaterialScrollspy.isInitialized(topic.getElement()));
+        assertTrue(MaterialScrollspy.isLinkBound(firstLink.getElement()));
+
+        // when
+        MaterialScrollspy second = new MaterialScrollspy();
+        MaterialLink secondLink = new MaterialLink("Topic", "#linked-topic");
+        second.add(secondLink);
+        RootPanel.get().add(second);
+
+        // then
+        assertTrue(MaterialScrollspy.isLinkBound(secondLink.getElement()));
+    }
+}
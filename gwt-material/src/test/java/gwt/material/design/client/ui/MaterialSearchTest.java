@@ -19,8 +19,16 @@
  */
 package gwt.material.design.client.ui;
 
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.event.dom.client.DomEvent;
+import com.google.gwt.event.dom.client.KeyCodes;
+import com.google.gwt.user.client.rpc.AsyncCallback;
 import gwt.material.design.client.base.SearchObject;
+import gwt.material.design.client.base.search.SearchIndex;
+import gwt.material.design.client.base.search.SearchResultCache;
 import gwt.material.design.client.constants.Color;
+import gwt.material.design.client.constants.CssName;
+import gwt.material.design.client.constants.IconType;
 import gwt.material.design.client.constants.InputType;
 
 import java.util.ArrayList;
@@ -137,6 +145,170 @@ public class MaterialSearchTest extends MaterialValueBoxTest<MaterialSearch> {
         checkFieldErrorSuccess(widget, widget.getErrorLabel());
     }
 
+    public void testSearchIndex() {
+        // given
+        List<SearchObject> objects = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            objects.add(new SearchObject(IconType.POLYMER, "Keyword " + i));
+        }
+        SearchIndex index = new SearchIndex(objects);
+
+        // when / then
+        assertEquals(1000, index.count(""));
+        assertEquals(111, index.count("keyword 9"));
+        assertEquals(11, index.count("KEYWORD 99"));
+        assertEquals(1, index.count("keyword 999"));
+        assertEquals(0, index.count("keyword 9999"));
+        assertEquals(10, index.search("keyword", 10).size());
+        assertEquals(19, index.count("99"));
+
+        // Objects added later are indexed as well
+        objects.add(new SearchObject(IconType.POLYMER, "Another"));
+        assertEquals(1, index.count("other"));
+    }
+
+    public void testResultLimit() {
+        // given
+        MaterialSearch search = getWidget();
+        search.setResultLimit(2);
+
+        // when
+        search.setText("keyword");
+        fireKeyUpEvent(search);
+
+        // then
+        assertEquals(2, search.getSearchResultPanel().getWidgetCount());
+        assertEquals(2, search.getTempSearches().size());
+    }
+
+    public void testResultRecycling() {
+        // given
+        MaterialSearch search = getWidget();
+        MaterialSearchResult resultPanel = search.getSearchResultPanel();
+        search.setText("keyword");
+        fireKeyUpEvent(search);
+        assertEquals(5, resultPanel.getWidgetCount());
+        MaterialLink link = resultPanel.getLink(search.getTempSearches().get(0));
+
+        // when
+        search.setText("keyword1");
+        fireKeyUpEvent(search);
+
+        // then
+        assertEquals(1, resultPanel.getWidgetCount());
+        assertSame(link, resultPanel.getWidget(0));
+
+        // when
+        search.setText("keyword");
+        fireKeyUpEvent(search);
+
+        // then
+        assertEquals(5, resultPanel.getWidgetCount());
+        assertSame(link, resultPanel.getWidget(0));
+        for (int i = 0; i < 5; i++) {
+            assertSame(resultPanel.getLink(search.getTempSearches().get(i)), resultPanel.getWidget(i));
+        }
+
+        // Only one link is highlighted at a time
+        resultPanel.setHighlighted((MaterialLink) resultPanel.getWidget(0));
+        resultPanel.setHighlighted((MaterialLink) resultPanel.getWidget(1));
+        assertFalse(resultPanel.getWidget(0).getElement().hasClassName(CssName.HIGLIGHTED));
+        assertTrue(resultPanel.getWidget(1).getElement().hasClassName(CssName.HIGLIGHTED));
+    }
+
+    public void testSearchProvider() {
+        // given
+        MaterialSearch search = getWidget();
+        List<AsyncCallback<List<SearchObject>>> pending = new ArrayList<>();
+        final int[] requests = {0};
+        search.setSearchProvider((keyword, limit, callback) -> {
+            requests[0]++;
+            pending.add(callback);
+        });
+
+        // when
+        search.setText("key");
+        fireKeyUpEvent(search);
+        search.setText("keyword");
+        fireKeyUpEvent(search);
+
+        // Arrow keys do not run the query again
+        DomEvent.fireNativeEvent(Document.get().createKeyUpEvent(false, false, false, false, KeyCodes.KEY_DOWN), search.getValueBoxBase());
+        assertEquals(2, requests[0]);
+
+        // Only the latest response is rendered
+        pending.get(1).onSuccess(new ArrayList<>(SEARCH_OBJECTS.subList(0, 3)));
+        pending.get(0).onSuccess(new ArrayList<>(SEARCH_OBJECTS.subList(0, 1)));
+        assertEquals(3, search.getSearchResultPanel().getWidgetCount());
+
+        // Recent results are served from the cache
+        search.setText("key");
+        fireKeyUpEvent(search);
+        assertEquals(2, requests[0]);
+        assertEquals(1, search.getSearchResultPanel().getWidgetCount());
+
+        // Changing the result limit fetches the results again
+        search.setResultLimit(search.getResultLimit() + 1);
+        search.setText("keyword");
+        fireKeyUpEvent(search);
+        assertEquals(3, requests[0]);
+    }
+
+    public void testSearchProviderRecycling() {
+        // given
+        MaterialSearch search = getWidget();
+        MaterialSearchResult resultPanel = search.getSearchResultPanel();
+        search.setSearchProvider((keyword, limit, callback) -> {
+            // New instances for every query, with a duplicate result
+            List<SearchObject> results = new ArrayList<>();
+            for (int i = 1; i <= keyword.length(); i++) {
+                results.add(new SearchObject(IconType.SEARCH, "keyword" + i, "link" + i));
+            }
+            results.add(new SearchObject(IconType.SEARCH, "keyword1", "link1"));
+            callback.onSuccess(results);
+        });
+        search.setText("abc");
+        fireKeyUpEvent(search);
+        assertEquals(4, resultPanel.getWidgetCount());
+        MaterialLink first = (MaterialLink) resultPanel.getWidget(0);
+        MaterialLink duplicate = (MaterialLink) resultPanel.getWidget(3);
+        assertNotSame(first, duplicate);
+
+        // when
+        search.setText("ab");
+        fireKeyUpEvent(search);
+
+        // then
+        assertEquals(3, resultPanel.getWidgetCount());
+        assertSame(first, resultPanel.getWidget(0));
+        assertSame(duplicate, resultPanel.getWidget(2));
+        for (int i = 0; i < 3; i++) {
+            MaterialLink link = (MaterialLink) resultPanel.getWidget(i);
+            assertSame(search.getTempSearches().get(i), resultPanel.getObject(link));
+            assertSame(link, resultPanel.getLink(search.getTempSearches().get(i)));
+        }
+    }
+
+    public void testSearchResultCache() {
+        // given
+        SearchResultCache cache = new SearchResultCache(2);
+        List<SearchObject> results = new ArrayList<>();
+
+        // when / then
+        cache.put("a", results);
+        cache.put("b", results);
+        assertNotNull(cache.get("a"));
+        cache.put("c", results);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+
+        cache.setMaxSize(0);
+        assertEquals(0, cache.size());
+        cache.put("d", results);
+        assertNull(cache.get("d"));
+    }
+
     public void testSelectedObject() {
         // given
         MaterialSearch widget = getWidget();
@@ -22,6 +22,7 @@ package gwt.material.design.client.ui;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.user.client.Timer;
 import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.constants.CssName;
 
 import static gwt.material.design.jquery.client.api.JQuery.$;
 
@@ -105,4 +106,159 @@ public class MaterialToastTest extends MaterialTestCase {
         assertEquals(toastElement.getInnerHTML(), "test");
         toastContainer.setInnerHTML("");
     }
+
+    public void testToastManager() {
+        // given
+        ToastManager.setMaxVisible(2);
+        Element toastContainer = null;
+
+        try {
+            // when
+            MaterialToast first = new MaterialToast();
+            first.toast("first");
+            MaterialToast.fireToast("second");
+            MaterialToast.fireToast("third");
+            MaterialToast.fireToast("second");
+            MaterialToast.fireToast("third");
+            MaterialToast.fireToast("third");
+
+            // then
+            toastContainer = $("body").find("#toast-container").asElement();
+            assertEquals(2, toastContainer.getChildCount());
+            assertEquals(2, ToastManager.getVisibleCount());
+            assertEquals(1, ToastManager.getQueueSize());
+            Element second = (Element) toastContainer.getChild(1);
+            assertEquals("2", $(second).find("." + CssName.BADGE).text());
+
+            // when - closing a visible toast displays the queued one
+            first.close();
+
+            // then
+            assertEquals(2, toastContainer.getChildCount());
+            assertEquals(2, ToastManager.getVisibleCount());
+            assertEquals(0, ToastManager.getQueueSize());
+            Element third = (Element) toastContainer.getChild(1);
+            assertTrue(third.getInnerText().startsWith("third"));
+            assertEquals("3", $(third).find("." + CssName.BADGE).text());
+
+            // when
+            MaterialToast fourth = new MaterialToast();
+            fourth.toast("fourth");
+
+            // then
+            assertEquals(1, ToastManager.getQueueSize());
+            ToastManager.clear();
+            assertEquals(0, ToastManager.getVisibleCount());
+            assertEquals(0, ToastManager.getQueueSize());
+            assertEquals(0, toastContainer.getChildCount());
+        } finally {
+            ToastManager.setMaxVisible(0);
+            if (toastContainer != null) {
+                toastContainer.setInnerHTML("");
+            }
+        }
+    }
+
+    public void testToastSameInstance() {
+        // given
+        ToastManager.setMaxVisible(1);
+        MaterialToast toast = new MaterialToast();
+        MaterialToast other = new MaterialToast();
+        Element toastContainer = null;
+
+        try {
+            // when
+            toast.toast("first");
+            toast.toast("again");
+
+            // then
+            toastContainer = $("body").find("#toast-container").asElement();
+            assertEquals(1, toastContainer.getChildCount());
+            assertEquals(1, ToastManager.getVisibleCount());
+            assertEquals(0, ToastManager.getQueueSize());
+            assertEquals("again", ((Element) toastContainer.getChild(0)).getInnerText());
+
+            // when
+            other.toast("other");
+            other.toast("other again");
+
+            // then
+            assertEquals(1, ToastManager.getQueueSize());
+
+            // when
+            toast.close();
+
+            // then
+            assertEquals(1, ToastManager.getVisibleCount());
+            assertEquals(0, ToastManager.getQueueSize());
+            assertTrue(other.isOpen());
+            assertEquals("other again", ((Element) toastContainer.getChild(0)).getInnerText());
+        } finally {
+            ToastManager.clear();
+            ToastManager.setMaxVisible(0);
+            if (toastContainer != null) {
+                toastContainer.setInnerHTML("");
+            }
+        }
+    }
+
+    public void testToastAgainLifetime() {
+        // given
+        ToastManager.setMaxVisible(1);
+        int[] callbacks = {0};
+        MaterialToast toast = new MaterialToast(() -> callbacks[0]++);
+
+        // when
+        toast.toast("first", 200);
+        toast.toast("again", 1500);
+        MaterialToast.fireToast("queued", 200);
+
+        // then
+        assertEquals(1, ToastManager.getVisibleCount());
+        assertEquals(1, ToastManager.getQueueSize());
+        delayTestFinish(5000);
+        new Timer() {
+            @Override
+            public void run() {
+                // The first lifetime is over, the toast displayed again keeps its slot
+                assertTrue(toast.isOpen());
+                assertEquals(0, callbacks[0]);
+                assertEquals(1, ToastManager.getVisibleCount());
+                assertEquals(1, ToastManager.getQueueSize());
+
+                new Timer() {
+                    @Override
+                    public void run() {
+                        try {
+                            // The second lifetime is over as well
+                            assertFalse(toast.isOpen());
+                            assertEquals(1, callbacks[0]);
+                            assertEquals(0, ToastManager.getQueueSize());
+                            assertTrue(ToastManager.getVisibleCount() <= 1);
+                        } finally {
+                            ToastManager.clear();
+                            ToastManager.setMaxVisible(0);
+                        }
+                        finishTest();
+                    }
+                }.schedule(1500);
+            }
+        }.schedule(1000);
+    }
+
+    public void testToastWidgetDetach() {
+        // given
+        MaterialLink link = new MaterialLink();
+        MaterialToast toast = new MaterialToast(link);
+
+        // when
+        toast.toast("widget");
+
+        // then
+        assertTrue(link.isAttached());
+        assertTrue(toast.isOpen());
+        toast.close();
+        assertFalse(link.isAttached());
+        assertFalse(toast.isOpen());
+    }
 }
@@ -75,4 +75,62 @@ public class MaterialTooltipTest extends MaterialTestCase {
         widget.setTooltipHTML(HTML);
         assertEquals(widget.getTooltipHTML(), HTML);
     }
+
+    public void testSharedOverlay() {
+        // given
+        MaterialTooltip.setSharedOverlay(true);
+        int tooltipCount = getTooltipCount();
+
+        // when
+        MaterialButton widget = null;
+        for (int i = 0; i < 100; i++) {
+            widget = new MaterialButton();
+            RootPanel.get().add(widget);
+            widget.setTooltip(TOOLTIP + i);
+        }
+
+        // then
+        assertTrue(SharedTooltip.isInstalled());
+        assertEquals(tooltipCount + 1, getTooltipCount());
+        assertEquals(TOOLTIP + 99, widget.getElement().getAttribute("data-tooltip"));
+        assertFalse(widget.getElement().hasAttribute("data-tooltip-id"));
+        try {
+            widget.getTooltipElement();
+            fail("The shared tooltip element must not be handed out");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        widget.setTooltipHTML("<b>Tooltip</b>");
+        assertEquals("<b>Tooltip</b>", widget.getElement().getAttribute("data-tooltip-html"));
+        widget.setTooltip(TOOLTIP, "red", "white-text");
+        assertEquals("red white-text", widget.getElement().getAttribute("data-tooltip-class"));
+        widget.addTooltipClass("bold");
+        assertEquals("red white-text bold", widget.getElement().getAttribute("data-tooltip-class"));
+
+        SharedTooltip.uninstall();
+        MaterialTooltip.setSharedOverlay(false);
+        assertEquals(tooltipCount, getTooltipCount());
+    }
+
+    public void testOverlayModeKeptUntilUnload() {
+        // given
+        int tooltipCount = getTooltipCount();
+        MaterialButton widget = new MaterialButton();
+        RootPanel.get().add(widget);
+        widget.setTooltip(TOOLTIP);
+        assertEquals(tooltipCount + 1, getTooltipCount());
+
+        // when
+        MaterialTooltip.setSharedOverlay(true);
+        widget.removeFromParent();
+
+        // then
+        assertEquals(tooltipCount, getTooltipCount());
+        MaterialTooltip.setSharedOverlay(false);
+    }
+
+    protected native int getTooltipCount() /*-{
+        return $doc.querySelectorAll('.material-tooltip').length;
+    }-*/;
 }
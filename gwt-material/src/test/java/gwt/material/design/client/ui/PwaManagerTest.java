@@ -21,6 +21,8 @@ package gwt.material.design.client.ui;
 
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.resources.client.TextResource;
+import gwt.material.design.client.MaterialDesignBase;
 import gwt.material.design.client.MaterialTestCase;
 import gwt.material.design.client.pwa.PwaManager;
 import gwt.material.design.client.pwa.serviceworker.ServiceWorkerManager;
@@ -39,6 +41,43 @@ public class PwaManagerTest extends MaterialTestCase {
         super.gwtSetUp();
     }
 
+    public void testRequireJs() {
+        // given
+        MaterialDesignBase.registerJs("test-dependency", createScript("test-dependency",
+            "window.testScripts = (window.testScripts || '') + 'dependency;';"));
+        MaterialDesignBase.registerJs("test-script", createScript("test-script",
+            "window.testScripts = (window.testScripts || '') + 'script;';"), "test-dependency");
+        assertFalse(MaterialDesignBase.isJsInjected("test-script"));
+
+        // when
+        MaterialDesignBase.requireJs("test-script");
+        MaterialDesignBase.requireJs("test-script");
+        MaterialDesignBase.requireJs("test-dependency");
+
+        // then
+        assertTrue(MaterialDesignBase.isJsInjected("test-script"));
+        assertTrue(MaterialDesignBase.isJsInjected("test-dependency"));
+        assertEquals("dependency;script;", getInjectedScripts());
+    }
+
+    protected TextResource createScript(String name, String text) {
+        return new TextResource() {
+            @Override
+            public String getText() {
+                return text;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    protected native String getInjectedScripts() /*-{
+        return $wnd.testScripts;
+    }-*/;
+
     public void testManifest() {
         // Load Web Manifest
         PwaManager.getInstance().setWebManifest(WEB_MANIFEST_URL).load();
@@ -0,0 +1,129 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base;
+
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.AbstractSideNav;
+import gwt.material.design.client.base.density.Density;
+import gwt.material.design.client.base.density.DisplayDensity;
+import gwt.material.design.client.base.density.DisplayDensityManager;
+import gwt.material.design.client.base.density.DisplayDensityStorage;
+import gwt.material.design.client.ui.MaterialNavBar;
+import gwt.material.design.client.ui.MaterialSideNav;
+import gwt.material.design.client.ui.MaterialSideNavPush;
+
+/**
+ * Test case for {@link DisplayDensityManager}.
+ */
+public class DisplayDensityManagerTest extends MaterialTestCase {
+
+    @Override
+    protected void gwtTearDown() throws Exception {
+        super.gwtTearDown();
+        DisplayDensityStorage.apply(DisplayDensity.DEFAULT);
+    }
+
+    protected MaterialSideNavPush createSideNav(String id) {
+        return attach(new MaterialSideNavPush(), id);
+    }
+
+    protected <T extends AbstractSideNav> T attach(T sideNav, String id) {
+        MaterialNavBar navBar = new MaterialNavBar();
+        navBar.setActivates(id);
+        RootPanel.get().add(navBar);
+        sideNav.setId(id);
+        RootPanel.get().add(sideNav);
+        return sideNav;
+    }
+
+    public void testStorageDensity() {
+        // given
+        MaterialSideNav untouched = attach(new MaterialSideNav(), "density-untouched");
+        MaterialSideNav stored = new MaterialSideNav();
+        stored.setDensity(DisplayDensityStorage.get());
+        attach(stored, "density-stored");
+
+        // when
+        DisplayDensityStorage.apply(DisplayDensity.COMPACT);
+
+        // then
+        assertEquals(DisplayDensity.COMPACT, untouched.getDensity());
+        assertTrue(untouched.getElement().hasClassName(DisplayDensity.COMPACT.getCssName()));
+        assertEquals(DisplayDensity.COMPACT, stored.getDensity());
+        assertTrue(stored.getElement().hasClassName(DisplayDensity.COMPACT.getCssName()));
+
+        // when
+        DisplayDensityStorage.apply(DisplayDensity.COMFORTABLE);
+
+        // then
+        assertEquals(DisplayDensity.COMFORTABLE, untouched.getDensity());
+        assertEquals(DisplayDensity.COMFORTABLE, stored.getDensity());
+        assertFalse(stored.getElement().hasClassName(DisplayDensity.COMPACT.getCssName()));
+    }
+
+    public void testLiveDensity() {
+        // given
+        MaterialSideNavPush sideNav = createSideNav("density-live");
+        Density[] changed = new Density[1];
+        HandlerRegistration registration = DisplayDensityManager.addDensityChangeHandler(event -> changed[0] = event.getDensity());
+
+        // when
+        DisplayDensityManager.setDensity(DisplayDensity.COMPACT);
+
+        // then
+        assertEquals(DisplayDensity.COMPACT, changed[0]);
+        assertEquals(DisplayDensity.COMPACT, sideNav.getDensity());
+        assertTrue(sideNav.getElement().hasClassName(DisplayDensity.COMPACT.getCssName()));
+
+        // Detached widgets pick up the density once attached again
+        sideNav.removeFromParent();
+        DisplayDensityManager.setDensity(DisplayDensity.COMFORTABLE);
+        RootPanel.get().add(sideNav);
+        assertEquals(DisplayDensity.COMFORTABLE, sideNav.getDensity());
+        assertTrue(sideNav.getElement().hasClassName(DisplayDensity.COMFORTABLE.getCssName()));
+        assertFalse(sideNav.getElement().hasClassName(DisplayDensity.COMPACT.getCssName()));
+
+        registration.removeHandler();
+    }
+
+    public void testExplicitDensity() {
+        // given
+        MaterialSideNavPush sideNav = createSideNav("density-explicit");
+        MaterialSideNavPush other = createSideNav("density-other");
+        sideNav.setDensity(DisplayDensity.COMPACT);
+
+        // when
+        DisplayDensityManager.setDensity(DisplayDensity.COMFORTABLE);
+
+        // then
+        assertEquals(DisplayDensity.COMPACT, sideNav.getDensity());
+        assertTrue(sideNav.getElement().hasClassName(DisplayDensity.COMPACT.getCssName()));
+        assertEquals(DisplayDensity.COMFORTABLE, other.getDensity());
+
+        // Explicit densities are also kept when attached again
+        sideNav.removeFromParent();
+        DisplayDensityManager.setDensity(DisplayDensity.DEFAULT);
+        RootPanel.get().add(sideNav);
+        assertEquals(DisplayDensity.COMPACT, sideNav.getDensity());
+        assertEquals(DisplayDensity.DEFAULT, other.getDensity());
+    }
+}
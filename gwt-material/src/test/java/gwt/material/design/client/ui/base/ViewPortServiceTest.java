@@ -0,0 +1,120 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2017 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base;
+
+import com.google.gwt.user.client.Timer;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.viewport.Resolution;
+import gwt.material.design.client.base.viewport.ViewPort;
+import gwt.material.design.client.base.viewport.ViewPortService;
+import gwt.material.design.client.base.viewport.WidthBoundary;
+
+/**
+ * Test case for {@link ViewPortService}.
+ */
+public class ViewPortServiceTest extends MaterialTestCase {
+
+    public void testSharedQueries() {
+        // given
+        int queryCount = ViewPortService.getQueryCount();
+        int[] calls = {0, 0};
+        WidthBoundary all = new WidthBoundary(0, 100000);
+
+        // when
+        ViewPort first = ViewPort.when(all).then(change -> calls[0]++);
+        ViewPort second = ViewPort.when(all, Resolution.LAPTOP).then(change -> calls[1]++, viewPort -> true);
+
+        // then
+        assertEquals(1, calls[0]);
+        assertEquals(1, calls[1]);
+        assertEquals(queryCount + 2, ViewPortService.getQueryCount());
+        assertTrue(ViewPortService.matches(all.asMediaQuery()));
+
+        first.unload();
+        assertEquals(queryCount + 2, ViewPortService.getQueryCount());
+        second.unload();
+        assertEquals(queryCount, ViewPortService.getQueryCount());
+    }
+
+    public void testResizePollingFallback() {
+        // given
+        boolean listeners = ViewPortService.isMediaQueryListeners();
+        int queryCount = ViewPortService.getQueryCount();
+        WidthBoundary boundary = new WidthBoundary(0, 99999);
+        int[] calls = {0, 0};
+        ViewPortService.setMediaQueryListeners(false);
+        ViewPort viewPort = ViewPort.when(boundary).then(change -> calls[0]++, change -> calls[1]++ >= 0);
+        assertFalse(ViewPortService.isMediaQueryListeners());
+        assertEquals(1, calls[0]);
+        assertEquals(0, calls[1]);
+
+        // when - the window is resized across the boundary
+        forceMediaQuery(boundary.asMediaQuery(), false);
+        fireResize();
+
+        // then
+        delayTestFinish(2000);
+        new Timer() {
+            @Override
+            public void run() {
+                try {
+                    assertEquals(1, calls[0]);
+                    assertEquals(1, calls[1]);
+                    assertFalse(ViewPortService.matches(boundary.asMediaQuery()));
+
+                    // Switching the backend keeps the subscriptions
+                    ViewPortService.setMediaQueryListeners(listeners);
+                    assertEquals(queryCount + 1, ViewPortService.getQueryCount());
+                    viewPort.unload();
+                    assertEquals(queryCount, ViewPortService.getQueryCount());
+                } finally {
+                    restoreMatchMedia();
+                    ViewPortService.setMediaQueryListeners(listeners);
+                }
+                finishTest();
+            }
+        }.schedule(500);
+    }
+
+    /**
+     * Wraps window.matchMedia to force the result of the given media query.
+     */
+    protected native void forceMediaQuery(String query, boolean matches) /*-{
+        var original = $wnd.window.matchMedia;
+        var forced = function (q) {
+            return q === query ? {matches: matches} : original.apply(this, arguments);
+        };
+        forced.original = original;
+        $wnd.window.matchMedia = forced;
+    }-*/;
+
+    protected native void restoreMatchMedia() /*-{
+        var forced = $wnd.window.matchMedia;
+        if (forced.original) {
+            $wnd.window.matchMedia = forced.original;
+        }
+    }-*/;
+
+    protected native void fireResize() /*-{
+        var event = $doc.createEvent('HTMLEvents');
+        event.initEvent('resize', false, false);
+        $wnd.dispatchEvent(event);
+    }-*/;
+}
@@ -0,0 +1,94 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.error;
+
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.error.DefaultErrorHandler;
+import gwt.material.design.client.base.validator.BlankValidator;
+import gwt.material.design.client.ui.MaterialHelpBlock;
+import gwt.material.design.client.ui.MaterialPanel;
+import gwt.material.design.client.ui.MaterialRow;
+import gwt.material.design.client.ui.MaterialTextBox;
+
+/**
+ * Test case for {@link DefaultErrorHandler}.
+ */
+public class DefaultErrorHandlerTest extends MaterialTestCase {
+
+    protected MaterialTextBox createField() {
+        MaterialTextBox textBox = new MaterialTextBox();
+        textBox.addValidator(new BlankValidator<>());
+        return textBox;
+    }
+
+    public void testHelpBlockDiscovery() {
+        // given
+        MaterialRow row = new MaterialRow();
+        MaterialHelpBlock helpBlock = new MaterialHelpBlock();
+        MaterialPanel nested = new MaterialPanel();
+        MaterialTextBox first = createField();
+        MaterialTextBox second = createField();
+        nested.add(first);
+        nested.add(second);
+        row.add(nested);
+        row.add(helpBlock);
+        RootPanel.get().add(row);
+
+        // when
+        first.validate();
+
+        // then
+        assertFalse(helpBlock.getText().isEmpty());
+        assertTrue(helpBlock.getElement().hasClassName("field-error-label"));
+
+        // when
+        second.setValue("value");
+        second.validate();
+
+        // then
+        assertFalse(helpBlock.getElement().hasClassName("field-error-label"));
+    }
+
+    public void testRegisteredHelpBlock() {
+        // given
+        MaterialRow row = new MaterialRow();
+        MaterialHelpBlock helpBlock = new MaterialHelpBlock();
+        RootPanel.get().add(helpBlock);
+        HandlerRegistration registration = DefaultErrorHandler.registerHelpBlock(row, helpBlock);
+        MaterialTextBox textBox = createField();
+        row.add(textBox);
+
+        // when
+        RootPanel.get().add(row);
+        textBox.validate();
+
+        // then
+        assertFalse(helpBlock.getText().isEmpty());
+        assertEquals(helpBlock, DefaultErrorHandler.getRegisteredHelpBlock(row));
+
+        // when
+        registration.removeHandler();
+
+        // then
+        assertNull(DefaultErrorHandler.getRegisteredHelpBlock(row));
+    }
+}
@@ -21,7 +21,9 @@ package gwt.material.design.client.ui.base.helper;
 
 import gwt.material.design.client.MaterialTestCase;
 import gwt.material.design.client.base.helper.EnumHelper;
+import gwt.material.design.client.base.helper.StyleHelper;
 import gwt.material.design.client.constants.Color;
+import gwt.material.design.client.constants.IconType;
 
 /**
  * Test case for {@link EnumHelper}.
@@ -38,4 +40,22 @@ public class EnumHelperTest extends MaterialTestCase {
         assertEquals(Color.PINK_LIGHTEN_1,
             EnumHelper.fromStyleName("pink lighten-1", Color.class, Color.DEFAULT, true));
     }
+
+    public void testFromStyleNameLookup() {
+        // Multi token css names
+        assertEquals(Color.RED_LIGHTEN_2, Color.fromStyleName("red lighten-2", true));
+        assertEquals(Color.RED, Color.fromStyleName("lighten-2 red"));
+        assertEquals(Color.DEFAULT, Color.fromStyleName("lighten-2 unknown"));
+        assertEquals(Color.DEFAULT, Color.fromStyleName("red  lighten-2", true));
+
+        // First declared constant wins when several styles match
+        assertEquals(Color.BLACK, Color.fromStyleName("white black"));
+
+        // Single tokens and defaults
+        assertEquals(IconType.POLYMER, IconType.fromStyleName("polymer"));
+        assertEquals(IconType.DEFAULT, IconType.fromStyleName("unknown-icon"));
+        assertEquals(Color.DEFAULT, Color.fromStyleName(null));
+        assertEquals(Color.RED, StyleHelper.fromStyleName(Color.class, Color.RED));
+        assertEquals(Color.RED, StyleHelper.fromStyleName(Color.class, Color.RED_LIGHTEN_2));
+    }
 }
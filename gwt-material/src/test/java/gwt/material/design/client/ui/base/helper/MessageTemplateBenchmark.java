@@ -0,0 +1,62 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.helper;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.GWT;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.helper.MessageTemplate;
+import gwt.material.design.client.base.validator.MessageFormat;
+
+/**
+ * Benchmark of the compiled {@link MessageTemplate}s against the former regex implementation,
+ * the timings are logged for comparison. Not part of the unit tests, run it explicitly with
+ * <code>mvn test -Dtest=MessageTemplateBenchmark</code>.
+ */
+public class MessageTemplateBenchmark extends MaterialTestCase {
+
+    private static final int ITERATIONS = 20000;
+
+    public void testFormatBenchmark() {
+        final String pattern = "Value must be between {1} and {2} characters, got {3}.";
+
+        Duration duration = new Duration();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertNotNull(regexFormat(pattern, 1, 10, i));
+        }
+        GWT.log("Regex format: " + ITERATIONS + " messages in " + duration.elapsedMillis() + "ms");
+
+        duration = new Duration();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertNotNull(MessageFormat.format(pattern, 1, 10, i));
+        }
+        GWT.log("Compiled format: " + ITERATIONS + " messages in " + duration.elapsedMillis() + "ms");
+
+        assertEquals(regexFormat(pattern, 1, 10, 5), MessageFormat.format(pattern, 1, 10, 5));
+    }
+
+    protected String regexFormat(String pattern, Object... arguments) {
+        String msg = pattern;
+        for (int index = 0; index < arguments.length; index++) {
+            msg = msg.replaceAll("\\{" + (index + 1) + "\\}", String.valueOf(arguments[index]));
+        }
+        return msg;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.helper;
+
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.helper.MessageTemplate;
+import gwt.material.design.client.base.validator.MessageFormat;
+
+/**
+ * Test case for {@link MessageTemplate}.
+ */
+public class MessageTemplateTest extends MaterialTestCase {
+
+    public void testFormat() {
+        assertEquals("This is a test.", MessageFormat.format("{1} is a {2}", "This", "test."));
+        assertEquals("{1} is a {2}", MessageFormat.format("{1} is a {2}"));
+        assertEquals("a b a {3}", MessageFormat.format("{1} {2} {1} {3}", "a", "b"));
+        assertEquals("Cost $5 {}", MessageFormat.format("Cost {1} {}", "$5"));
+        assertEquals("{ a }", MessageFormat.format("{ {1} }", "a"));
+        assertEquals("no placeholders", MessageFormat.format("no placeholders", "a"));
+
+        MessageTemplate template = MessageTemplate.compile("Page {page} of {total} {other}");
+        assertSame(template, MessageTemplate.compile("Page {page} of {total} {other}"));
+        assertEquals(3, template.getPlaceholderCount());
+        assertEquals("Page 2 of 10 {other}", template.format(name -> "page".equals(name) ? 2 : "total".equals(name) ? 10 : null));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.helper;
+
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.regexp.shared.RegExp;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.helper.RegExpCache;
+import gwt.material.design.client.base.helper.StyleHelper;
+import gwt.material.design.client.base.validator.RegExValidator;
+
+/**
+ * Test case for {@link RegExpCache}.
+ */
+public class RegExpCacheTest extends MaterialTestCase {
+
+    @Override
+    protected void gwtTearDown() throws Exception {
+        super.gwtTearDown();
+
+        RegExpCache.setMaxSize(RegExpCache.DEFAULT_MAX_SIZE);
+        RegExpCache.clear();
+    }
+
+    public void testSharedPatterns() {
+        // given
+        RegExpCache.clear();
+        final String EMAIL = "^[^@\\s]+@[^@\\s]+$";
+
+        // when
+        RegExp regExp = RegExpCache.compile(EMAIL);
+        for (int i = 0; i < 100; i++) {
+            new RegExValidator(EMAIL);
+        }
+
+        // then
+        assertSame(regExp, RegExpCache.compile(EMAIL));
+        assertEquals(1, RegExpCache.getMissCount());
+        assertEquals(101, RegExpCache.getHitCount());
+        assertTrue(new RegExValidator(EMAIL).isValid("user@mail.com"));
+        assertFalse(new RegExValidator(EMAIL).isValid("user"));
+
+        // Flags are part of the key
+        assertNotSame(regExp, RegExpCache.compile(EMAIL, "i"));
+    }
+
+    public void testMeasurements() {
+        // given
+        RegExpCache.clear();
+
+        // when / then
+        assertEquals(12.5, StyleHelper.getMeasurementValue("12.5px"));
+        assertEquals(Style.Unit.PX, StyleHelper.getMeasurementUnit("12.5px"));
+        assertEquals(Style.Unit.EM, StyleHelper.getMeasurementUnit("-1e2em"));
+        assertEquals(30.0, StyleHelper.getMeasurementValue("30%"));
+        assertEquals(2, RegExpCache.getMissCount());
+        assertEquals(2, RegExpCache.getHitCount());
+    }
+
+    public void testBounded() {
+        // given
+        RegExpCache.clear();
+        RegExpCache.setMaxSize(2);
+
+        // when
+        RegExp first = RegExpCache.compile("a");
+        RegExpCache.compile("b");
+        RegExpCache.compile("a");
+        RegExpCache.compile("c");
+
+        // then
+        assertEquals(2, RegExpCache.size());
+        assertSame(first, RegExpCache.compile("a"));
+        RegExpCache.resetStats();
+        RegExpCache.compile("b");
+        assertEquals(1, RegExpCache.getMissCount());
+    }
+}
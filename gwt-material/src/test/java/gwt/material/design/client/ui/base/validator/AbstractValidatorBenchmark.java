@@ -0,0 +1,62 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.validator;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.GWT;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.validator.AbstractValidator;
+import gwt.material.design.client.base.validator.BlankValidator;
+import gwt.material.design.client.base.validator.RegExValidator;
+import gwt.material.design.client.base.validator.SizeValidator;
+import gwt.material.design.client.ui.MaterialTextBox;
+
+/**
+ * Micro-benchmark of the valid path of the {@link AbstractValidator}s, the timings are logged
+ * for comparison. Not part of the unit tests, run it explicitly with
+ * <code>mvn test -Dtest=AbstractValidatorBenchmark</code>.
+ */
+public class AbstractValidatorBenchmark extends MaterialTestCase {
+
+    private static final int ITERATIONS = 100000;
+
+    public void testValidationBenchmark() {
+        // given
+        MaterialTextBox textBox = new MaterialTextBox();
+        BlankValidator<String> blankValidator = new BlankValidator<>();
+        RegExValidator regExValidator = new RegExValidator("^[a-z]+$");
+        SizeValidator<String> sizeValidator = new SizeValidator<>(1, 10);
+
+        // when / then
+        benchmark("BlankValidator", blankValidator, textBox);
+        benchmark("RegExValidator", regExValidator, textBox);
+        benchmark("SizeValidator", sizeValidator, textBox);
+    }
+
+    protected void benchmark(String name, AbstractValidator<String> validator, MaterialTextBox textBox) {
+        int errors = 0;
+        Duration duration = new Duration();
+        for (int i = 0; i < ITERATIONS; i++) {
+            errors += validator.validate(textBox, "value").size();
+        }
+        GWT.log(name + ": " + ITERATIONS + " validations in " + duration.elapsedMillis() + "ms");
+        assertEquals(0, errors);
+    }
+}
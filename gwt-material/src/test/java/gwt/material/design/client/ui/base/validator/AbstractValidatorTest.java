@@ -0,0 +1,56 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.validator;
+
+import com.google.gwt.editor.client.EditorError;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.validator.AbstractValidator;
+import gwt.material.design.client.base.validator.BlankValidator;
+import gwt.material.design.client.base.validator.RegExValidator;
+import gwt.material.design.client.base.validator.SizeValidator;
+import gwt.material.design.client.ui.MaterialTextBox;
+
+import java.util.List;
+
+/**
+ * Test case for {@link AbstractValidator}.
+ */
+public class AbstractValidatorTest extends MaterialTestCase {
+
+    public void testValidFastPath() {
+        // given
+        MaterialTextBox textBox = new MaterialTextBox();
+        BlankValidator<String> blankValidator = new BlankValidator<>();
+        RegExValidator regExValidator = new RegExValidator("^[a-z]+$");
+        SizeValidator<String> sizeValidator = new SizeValidator<>(1, 10);
+
+        // when / then
+        List<EditorError> valid = blankValidator.validate(textBox, "value");
+        assertTrue(valid.isEmpty());
+        assertSame(valid, regExValidator.validate(textBox, "value"));
+        assertSame(valid, sizeValidator.validate(textBox, "value"));
+
+        List<EditorError> errors = regExValidator.validate(textBox, "Value1");
+        assertEquals(1, errors.size());
+        assertNotNull(errors.get(0).getMessage());
+        assertEquals(1, blankValidator.validate(textBox, "").size());
+        assertEquals(1, sizeValidator.validate(textBox, "value value value").size());
+    }
+}
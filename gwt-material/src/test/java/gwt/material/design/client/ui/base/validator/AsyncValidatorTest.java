@@ -0,0 +1,159 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.validator;
+
+import com.google.gwt.editor.client.Editor;
+import com.google.gwt.editor.client.EditorError;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.error.BasicEditorError;
+import gwt.material.design.client.base.validator.AsyncValidator;
+import gwt.material.design.client.ui.MaterialTextBox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test case for {@link AsyncValidator}.
+ */
+public class AsyncValidatorTest extends MaterialTestCase {
+
+    /**
+     * Rejects the "taken" value after a delay, like a uniqueness check on the server.
+     */
+    static class UniqueValidator implements AsyncValidator<String> {
+        final List<String> validated = new ArrayList<>();
+
+        @Override
+        public void validate(Editor<String> editor, String value, Callback callback) {
+            validated.add(value);
+            new Timer() {
+                @Override
+                public void run() {
+                    callback.onValidated("taken".equals(value)
+                        ? Collections.<EditorError>singletonList(new BasicEditorError(editor, value, "Already taken"))
+                        : null);
+                }
+            }.schedule(50);
+        }
+    }
+
+    public void testDebounceAndLatestResult() {
+        // given
+        MaterialTextBox textBox = new MaterialTextBox();
+        RootPanel.get().add(textBox);
+        UniqueValidator validator = new UniqueValidator();
+        textBox.addAsyncValidator(validator);
+        textBox.setAsyncValidationDelay(100);
+        List<Boolean> changes = new ArrayList<>();
+        textBox.addValidationChangedHandler(event -> changes.add(event.isValid()));
+
+        // when
+        textBox.setValue("t", true);
+        textBox.setValue("ta", true);
+        textBox.setValue("taken", true);
+
+        // then
+        assertTrue(textBox.isValidating());
+        assertFalse(textBox.validate(false));
+        assertTrue(changes.isEmpty());
+        delayTestFinish(2000);
+        new Timer() {
+            @Override
+            public void run() {
+                assertEquals(1, validator.validated.size());
+                assertEquals("taken", validator.validated.get(0));
+                assertFalse(textBox.isValidating());
+                assertEquals(1, textBox.getValidationErrors().size());
+                assertEquals(1, changes.size());
+                assertEquals(Boolean.FALSE, changes.get(0));
+
+                // The result is reused while the value is unchanged
+                assertFalse(textBox.validate());
+                assertEquals(1, validator.validated.size());
+
+                // Typing in an invalid field keeps it invalid until the next result
+                textBox.setValue("takenx", true);
+                assertTrue(textBox.isValidating());
+                assertEquals(1, changes.size());
+                assertEquals(1, textBox.getValidationErrors().size());
+                finishTest();
+            }
+        }.schedule(500);
+    }
+
+    public void testStaleResultDropped() {
+        // given
+        MaterialTextBox textBox = new MaterialTextBox();
+        RootPanel.get().add(textBox);
+        UniqueValidator validator = new UniqueValidator();
+        textBox.addAsyncValidator(validator);
+        textBox.setAsyncValidationDelay(0);
+
+        // when
+        textBox.setValue("taken", true);
+        textBox.setValue("free", true);
+
+        // then
+        delayTestFinish(2000);
+        new Timer() {
+            @Override
+            public void run() {
+                assertEquals(2, validator.validated.size());
+                assertTrue(textBox.getValidationErrors().isEmpty());
+                assertTrue(textBox.validate());
+                finishTest();
+            }
+        }.schedule(300);
+    }
+
+    public void testSynchronousCallback() {
+        // given
+        MaterialTextBox textBox = new MaterialTextBox();
+        RootPanel.get().add(textBox);
+        textBox.addAsyncValidator((editor, value, callback) -> callback.onValidated("taken".equals(value)
+            ? Collections.<EditorError>singletonList(new BasicEditorError(editor, value, "Already taken"))
+            : null));
+        textBox.setAsyncValidationDelay(0);
+        List<Boolean> changes = new ArrayList<>();
+        textBox.addValidationChangedHandler(event -> changes.add(event.isValid()));
+
+        // when
+        textBox.setValue("taken");
+
+        // then
+        assertFalse(textBox.validate());
+        assertFalse(textBox.isValidating());
+        assertEquals(1, textBox.getValidationErrors().size());
+        assertEquals(1, changes.size());
+        assertEquals(Boolean.FALSE, changes.get(0));
+
+        // when
+        textBox.setValue("free");
+
+        // then
+        assertTrue(textBox.validate());
+        assertTrue(textBox.getValidationErrors().isEmpty());
+        assertEquals(2, changes.size());
+        assertEquals(Boolean.TRUE, changes.get(1));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.validator;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.validator.DefaultDirtyValidator;
+import gwt.material.design.client.ui.MaterialPanel;
+import gwt.material.design.client.ui.MaterialTextBox;
+
+/**
+ * Test case for {@link DefaultDirtyValidator}.
+ */
+public class DefaultDirtyValidatorTest extends MaterialTestCase {
+
+    public void testDirtyFields() {
+        // given
+        MaterialPanel content = new MaterialPanel();
+        MaterialPanel nested = new MaterialPanel();
+        MaterialTextBox name = new MaterialTextBox();
+        MaterialTextBox email = new MaterialTextBox();
+        name.setValue("name");
+        content.add(name);
+        nested.add(email);
+        content.add(nested);
+        RootPanel.get().add(content);
+
+        DefaultDirtyValidator<MaterialPanel> validator = new DefaultDirtyValidator<>(content);
+        validator.setAllowDirtyValidation(true);
+        assertFalse(validator.isDirty());
+
+        // when
+        email.setValue("email", true);
+
+        // then
+        assertTrue(validator.isDirty());
+        assertEquals(1, validator.getDirtyFields().size());
+        assertSame(email, validator.getDirtyFields().get(0));
+
+        // when
+        email.setValue("", true);
+
+        // then
+        assertFalse(validator.isDirty());
+
+        // when
+        name.setValue("other", true);
+        validator.setDirty(false);
+
+        // then
+        assertFalse(validator.isDirty());
+        assertTrue(validator.getDirtyFields().isEmpty());
+
+        // when
+        validator.setAllowDirtyValidation(false);
+        name.setValue("name", true);
+
+        // then
+        assertFalse(validator.isDirty());
+        assertFalse(validator.isTracked(name));
+    }
+
+    public void testLateAttachedFields() {
+        // given
+        MaterialPanel content = new MaterialPanel();
+        RootPanel.get().add(content);
+        DefaultDirtyValidator<MaterialPanel> validator = new DefaultDirtyValidator<>(content);
+        validator.setAllowDirtyValidation(true);
+
+        // when
+        MaterialPanel nested = new MaterialPanel();
+        MaterialTextBox late = new MaterialTextBox();
+        nested.add(late);
+        content.add(nested);
+
+        // then
+        delayTestFinish(2000);
+        Scheduler.get().scheduleDeferred(() -> {
+            assertTrue(validator.isTracked(late));
+            late.setValue("late", true);
+            assertTrue(validator.isDirty());
+
+            nested.removeFromParent();
+            Scheduler.get().scheduleDeferred(() -> {
+                assertFalse(validator.isTracked(late));
+                assertFalse(validator.isDirty());
+                finishTest();
+            });
+        });
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.validator;
+
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.validator.BlankValidator;
+import gwt.material.design.client.base.validator.GroupValidator;
+import gwt.material.design.client.ui.MaterialTextBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test case for {@link GroupValidator}.
+ */
+public class GroupValidatorTest extends MaterialTestCase {
+
+    private static final int FIELDS = 200;
+
+    protected List<MaterialTextBox> createFields(GroupValidator group) {
+        List<MaterialTextBox> textBoxes = new ArrayList<>();
+        for (int i = 0; i < FIELDS; i++) {
+            MaterialTextBox textBox = new MaterialTextBox();
+            textBox.addValidator(new BlankValidator<>());
+            RootPanel.get().add(textBox);
+            group.add(textBox);
+            textBoxes.add(textBox);
+        }
+        return textBoxes;
+    }
+
+    public void testInvalidCount() {
+        // given
+        GroupValidator group = new GroupValidator();
+        List<MaterialTextBox> textBoxes = createFields(group);
+        assertEquals(FIELDS, group.getInvalidCount());
+        assertFalse(group.validate());
+
+        // when
+        for (MaterialTextBox textBox : textBoxes) {
+            textBox.setValue("value", true);
+        }
+
+        // then
+        assertEquals(0, group.getInvalidCount());
+        assertTrue(group.validate());
+
+        // when
+        textBoxes.get(0).setValue("", true);
+        group.remove(textBoxes.get(1));
+
+        // then
+        assertEquals(1, group.getInvalidCount());
+        group.remove(textBoxes.get(0));
+        assertEquals(0, group.getInvalidCount());
+        assertTrue(group.validate());
+    }
+
+    public void testValidateAsync() {
+        // given
+        GroupValidator group = new GroupValidator();
+        group.setBatchSize(20);
+        List<MaterialTextBox> textBoxes = createFields(group);
+        for (MaterialTextBox textBox : textBoxes) {
+            textBox.setValue("value");
+        }
+
+        // when
+        delayTestFinish(5000);
+        group.validateAsync(true, valid -> {
+            // then
+            assertTrue(valid);
+            assertFalse(group.isValidating());
+            assertEquals(0, group.getInvalidCount());
+            finishTest();
+        });
+        assertTrue(group.isValidating());
+    }
+
+    public void testValidateAsyncPending() {
+        // given
+        GroupValidator group = new GroupValidator();
+        MaterialTextBox textBox = new MaterialTextBox();
+        RootPanel.get().add(textBox);
+        // The async check is still running when the group is validated
+        textBox.addAsyncValidator((editor, value, callback) -> { });
+        textBox.setValue("value");
+        group.add(textBox);
+
+        // when
+        delayTestFinish(5000);
+        group.validateAsync(true, valid -> {
+            // then
+            assertFalse(valid);
+            assertTrue(textBox.isValidating());
+            finishTest();
+        });
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * #%L
+ * GwtMaterial
+ * %%
+ * Copyright (C) 2015 - 2019 GwtMaterialDesign
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package gwt.material.design.client.ui.base.validator;
+
+import com.google.gwt.user.client.ui.RootPanel;
+import gwt.material.design.client.MaterialTestCase;
+import gwt.material.design.client.base.validator.BlankValidator;
+import gwt.material.design.client.base.validator.TreeValidator;
+import gwt.material.design.client.base.validator.ValidationOptions;
+import gwt.material.design.client.base.validator.ValidationResult;
+import gwt.material.design.client.ui.MaterialPanel;
+import gwt.material.design.client.ui.MaterialTextBox;
+
+/**
+ * Test case for {@link TreeValidator}.
+ */
+public class TreeValidatorTest extends MaterialTestCase {
+
+    static class CountingValidator extends BlankValidator<String> {
+        int count;
+
+        @Override
+        public boolean isValid(String value) {
+            count++;
+            return super.isValid(value);
+        }
+    }
+
+    private MaterialPanel form;
+    private MaterialTextBox first;
+    private MaterialTextBox second;
+    private MaterialTextBox hidden;
+    private CountingValidator counter;
+
+    @Override
+    protected void gwtSetUp() throws Exception {
+        super.gwtSetUp();
+
+        form = new MaterialPanel();
+        MaterialPanel nested = new MaterialPanel();
+        first = new MaterialTextBox();
+        second = new MaterialTextBox();
+        hidden = new MaterialTextBox();
+        counter = new CountingValidator();
+        first.addValidator(counter);
+        second.addValidator(new BlankValidator<>());
+        hidden.addValidator(new BlankValidator<>());
+        hidden.setVisible(false);
+        form.add(first);
+        nested.add(second);
+        nested.add(hidden);
+        form.add(nested);
+        RootPanel.get().add(form);
+    }
+
+    public void testSinglePass() {
+        // when
+        ValidationResult result = form.validate(ValidationOptions.defaults());
+
+        // then
+        assertFalse(result.isValid());
+        assertTrue(result.isComplete());
+        assertEquals(1, counter.count);
+        assertEquals(3, result.getValidatedCount());
+        assertEquals(3, result.getErrorCount());
+        assertSame(first, result.getFirstInvalidField());
+        assertEquals(1, result.getErrors(first).size());
+        assertFalse(form.validate());
+    }
+
+    public void testOptions() {
+        // when
+        ValidationResult result = form.validate(new ValidationOptions().setFailFast(true));
+
+        // then
+        assertEquals(1, result.getValidatedCount());
+        assertFalse(result.isComplete());
+
+        // when
+        result = form.validate(new ValidationOptions().setMaxErrors(2));
+
+        // then
+        assertEquals(2, result.getErrorCount());
+        assertFalse(result.isComplete());
+
+        // when
+        first.setValue("value");
+        second.setValue("value");
+        result = form.validate(new ValidationOptions().setVisibleOnly(true));
+
+        // then
+        assertTrue(result.isValid());
+        assertEquals(2, result.getValidatedCount());
+        assertTrue(result.getErrors(first).isEmpty());
+    }
+}